@@ -0,0 +1,134 @@
+package com.poke.api.middleware.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of concurrent calls to a dependency with a limit that adapts to the dependency's latency,
+ * following the additive-increase/multiplicative-decrease (AIMD) scheme of TCP congestion control.
+ * <p>
+ * Every call that finishes within the latency threshold while the limit is being used raises the limit by one;
+ * every call that is slower than the threshold, or that failed, multiplies it by the backoff ratio.
+ * When the dependency slows down, fewer calls wait on it at the same time, and calls beyond the limit
+ * are rejected right away instead of queueing behind the slow ones.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongAdder rejected = new LongAdder();
+    private double limit;
+    private int inFlight;
+
+    /**
+     * Constructs a new {@link AdaptiveConcurrencyLimiter}.
+     *
+     * @param initialLimit     the limit before any call finished
+     * @param minLimit         the lowest the limit can go
+     * @param maxLimit         the highest the limit can go
+     * @param backoffRatio     the factor applied to the limit on a slow or failed call, between {@code 0} and {@code 1}
+     * @param latencyThreshold the latency above which a call counts as slow
+     * @param unit             the unit of {@code latencyThreshold}
+     * @throws IllegalArgumentException if the limits or the backoff ratio are inconsistent
+     */
+    public AdaptiveConcurrencyLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double backoffRatio,
+            long latencyThreshold,
+            TimeUnit unit
+    ) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1, was " + backoffRatio);
+        }
+
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+    }
+
+    /**
+     * Acquires a slot for a call, if the limit allows it.
+     * Every acquired slot must be released by exactly one of {@link #onSuccess(long)}, {@link #onDropped()}
+     * or {@link #onIgnore()}.
+     *
+     * @return {@code true} if the call may proceed, {@code false} if it must be rejected
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            rejected.increment();
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases the slot of a call that completed, adapting the limit to its latency.
+     *
+     * @param latencyNanos the latency of the call, in nanoseconds
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        boolean utilized = inFlight * 2 >= limit;
+        inFlight--;
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (utilized) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * Releases the slot of a call that failed or timed out, lowering the limit.
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease();
+    }
+
+    /**
+     * Releases the slot of a call whose outcome says nothing about the dependency, such as a cancelled call,
+     * leaving the limit unchanged.
+     */
+    public synchronized void onIgnore() {
+        inFlight--;
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the number of calls allowed at the same time
+     */
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Gets the number of calls holding a slot.
+     *
+     * @return the number of calls in flight
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the number of calls rejected because the limit was reached.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,200 @@
+package com.poke.api.middleware.application;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Bloom filter of strings whose bits live outside the Java heap, in a direct {@link ByteBuffer}.
+ * <p>
+ * Each string sets {@code k} bits chosen by double hashing a 128-bit MurmurHash3 of its UTF-8 bytes.
+ * {@link #mightContain(String)} never answers {@code false} for a string that was put, and answers {@code true}
+ * for other strings with a probability estimated by {@link #expectedFpp()}.
+ * <p>
+ * Bits are set with atomic operations, so strings can be put while other threads query the filter.
+ */
+public final class BloomFilter {
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final double LN2 = Math.log(2);
+
+    private final ByteBuffer bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder setBits = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.bits = ByteBuffer.allocateDirect(Math.toIntExact(bitSize / Byte.SIZE) + Long.BYTES - 1)
+                              .alignedSlice(Long.BYTES);
+    }
+
+    /**
+     * Creates an empty filter sized to hold a number of strings with a given false-positive probability.
+     *
+     * @param expectedInsertions the number of strings expected to be put
+     * @param fpp                the false-positive probability once that many strings are put, between {@code 0} and {@code 1}
+     * @return a new, empty {@link BloomFilter}
+     * @throws IllegalArgumentException if {@code fpp} is not between {@code 0} and {@code 1}
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("fpp must be between 0 and 1, was " + fpp);
+        }
+
+        long insertions = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-insertions * Math.log(fpp) / (LN2 * LN2));
+        long bitSize = Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / insertions * LN2));
+        return new BloomFilter(bitSize, hashFunctions);
+    }
+
+    /**
+     * Puts a string into the filter.
+     *
+     * @param value the string to put
+     * @return {@code true} if any bit changed, meaning the string was certainly not put before
+     */
+    public boolean put(String value) {
+        long[] hash = hash(value);
+        boolean changed = false;
+        long combined = hash[0];
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            int offset = (int) (bit >>> 6) * Long.BYTES;
+            long mask = 1L << bit;
+            long previous = (long) WORDS.getAndBitwiseOr(bits, offset, mask);
+            if ((previous & mask) == 0) {
+                setBits.increment();
+                changed = true;
+            }
+            combined += hash[1];
+        }
+        if (changed) {
+            insertions.increment();
+        }
+        return changed;
+    }
+
+    /**
+     * Tells whether a string might have been put into the filter.
+     *
+     * @param value the string to look up
+     * @return {@code false} if the string was certainly never put, {@code true} if it probably was
+     */
+    public boolean mightContain(String value) {
+        long[] hash = hash(value);
+        long combined = hash[0];
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            long word = (long) WORDS.getVolatile(bits, (int) (bit >>> 6) * Long.BYTES);
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += hash[1];
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the probability that {@link #mightContain(String)} answers {@code true} for a string never put,
+     * from the fraction of bits currently set.
+     *
+     * @return the estimated false-positive probability
+     */
+    public double expectedFpp() {
+        return Math.pow((double) setBits.sum() / bitSize, hashFunctions);
+    }
+
+    /**
+     * Gets the number of strings put that changed at least one bit, an estimate of the number of distinct strings.
+     *
+     * @return the approximate number of distinct strings put
+     */
+    public long approximateCount() {
+        return insertions.sum();
+    }
+
+    /**
+     * Gets the number of bits of the filter.
+     *
+     * @return the number of bits, a multiple of {@code 64}
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * Gets the number of bits set for each string.
+     *
+     * @return the number of hash functions
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Computes the 128-bit MurmurHash3 (x64 variant) of the UTF-8 bytes of a string.
+     */
+    private static long[] hash(String value) {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        long c1 = 0x87c37b91114253d5L;
+        long c2 = 0x4cf5ad432745937fL;
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = littleEndianLong(data, i * 16);
+            long k2 = littleEndianLong(data, i * 16 + 8);
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+            h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52dce729;
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+            h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        for (int i = data.length - tail - 1; i >= 0; i--) {
+            if (i >= 8) {
+                k2 = (k2 << 8) | (data[tail + i] & 0xFFL);
+            } else {
+                k1 = (k1 << 8) | (data[tail + i] & 0xFFL);
+            }
+        }
+        h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+        h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private static long littleEndianLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,132 @@
+package com.poke.api.middleware.application;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tells, through a {@link BloomFilter}, whether a Pokémon name can exist at all.
+ * <p>
+ * Until the filter is rebuilt from the complete list of Pokémon, every name is assumed to exist, so an incomplete
+ * list never turns a valid name away. Once it is complete, a name the filter never saw is certainly unknown,
+ * while a name it might have seen is searched as usual. Numeric names are Pokédex ids and always pass.
+ * <p>
+ * Rebuilds fill a new filter while the current one keeps answering, and replace it in a single step;
+ * names found between rebuilds can be added to the current filter.
+ */
+public class KnownPokemonNames {
+    private static final double HEADROOM = 1.25;
+
+    private final double fpp;
+    private final LongAdder rejections = new LongAdder();
+    private volatile State state;
+
+    /**
+     * Constructs an empty {@link KnownPokemonNames}, which assumes every name exists until it is rebuilt.
+     *
+     * @param fpp the false-positive probability of the filters built, between {@code 0} and {@code 1}
+     */
+    public KnownPokemonNames(double fpp) {
+        this.fpp = fpp;
+    }
+
+    /**
+     * Replaces the filter with a new one holding the given names.
+     * The new filter is sized with some headroom for the names added until the next rebuild.
+     *
+     * @param names    the names of the Pokémon
+     * @param complete whether {@code names} lists every existing Pokémon, allowing unknown names to be rejected
+     */
+    public void rebuild(Collection<String> names, boolean complete) {
+        BloomFilter filter = BloomFilter.create((long) Math.ceil(names.size() * HEADROOM), fpp);
+        names.forEach(name -> filter.put(normalize(name)));
+        state = new State(filter, complete);
+    }
+
+    /**
+     * Adds a name to the current filter, if any.
+     *
+     * @param name the name of a Pokémon known to exist
+     */
+    public void add(String name) {
+        State current = state;
+        if (current != null) {
+            current.filter().put(normalize(name));
+        }
+    }
+
+    /**
+     * Tells whether a Pokémon with the given name might exist.
+     *
+     * @param name the requested name, compared ignoring case and surrounding whitespace
+     * @return {@code false} only if the name is certainly not the name or the id of a Pokémon
+     */
+    public boolean mightExist(String name) {
+        State current = state;
+        if (current == null || !current.complete()) {
+            return true;
+        }
+
+        String normalized = normalize(name);
+        if (isNumeric(normalized) || current.filter().mightContain(normalized)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Tells whether the filter was built from the complete list of Pokémon, so unknown names are rejected.
+     *
+     * @return {@code true} if unknown names are rejected
+     */
+    public boolean isComplete() {
+        State current = state;
+        return current != null && current.complete();
+    }
+
+    /**
+     * Estimates the probability that an unknown name passes the current filter.
+     *
+     * @return the estimated false-positive probability, or {@code 1} while every name is assumed to exist
+     */
+    public double expectedFpp() {
+        State current = state;
+        return current != null && current.complete() ? current.filter().expectedFpp() : 1;
+    }
+
+    /**
+     * Gets the number of names rejected as certainly unknown.
+     *
+     * @return the number of rejected names
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    private static String normalize(String name) {
+        return name.trim()
+                   .toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isNumeric(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A filter together with whether it was built from the complete list of Pokémon.
+     */
+    private record State(
+            BloomFilter filter,
+            boolean complete
+    ) {
+    }
+}
@@ -0,0 +1,314 @@
+package com.poke.api.middleware.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory index of Pokémon names answering prefix and fuzzy searches.
+ * <p>
+ * Prefixes are looked up in a trie, whose children are kept sorted so matches come out in alphabetical order.
+ * Misspelled names are found in a BK-tree keyed by the Levenshtein distance, which only visits the subtrees
+ * whose distance to the query can still be within the allowed number of edits.
+ * <p>
+ * Names are lower-cased and can be added at any time; searches run concurrently with each other
+ * and only wait for additions of new names.
+ */
+public class NameIndex {
+    private static final int SHORT_QUERY_LENGTH = 4;
+    private static final int MAX_DISTANCE = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TrieNode trie = new TrieNode();
+    private BkNode bkTree;
+    private int size;
+
+    /**
+     * Adds a name to the index.
+     *
+     * @param name the name to add; blank names are ignored
+     * @return {@code true} if the name was not indexed yet
+     */
+    public boolean add(String name) {
+        String normalized = normalize(name);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (trie.find(normalized) != null) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            return insert(normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds several names to the index at once.
+     *
+     * @param names the names to add; blank names are ignored
+     * @return the number of names that were not indexed yet
+     */
+    public int addAll(Collection<String> names) {
+        lock.writeLock().lock();
+        try {
+            int added = 0;
+            for (String name : names) {
+                String normalized = normalize(name);
+                if (!normalized.isEmpty() && insert(normalized)) {
+                    added++;
+                }
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tells whether a name is indexed, ignoring case and surrounding whitespace.
+     *
+     * @param name the name to look up
+     * @return {@code true} if the name is indexed
+     */
+    public boolean contains(String name) {
+        lock.readLock().lock();
+        try {
+            return trie.find(normalize(name)) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed names.
+     *
+     * @return the number of names
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the names starting with the query, then the names within a few edits of it.
+     * Prefix matches come first, in alphabetical order, followed by the fuzzy matches ordered by distance and name.
+     * Queries of up to four characters allow one edit and longer queries allow two.
+     *
+     * @param query the text to search for, ignoring case and surrounding whitespace
+     * @param limit the maximum number of matches to return
+     * @return at most {@code limit} matches; empty for a blank query
+     */
+    public List<NameMatch> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<String> prefixMatches = new LinkedHashSet<>();
+            TrieNode node = trie.find(normalized);
+            if (node != null) {
+                node.collect(prefixMatches, limit);
+            }
+
+            List<NameMatch> matches = new ArrayList<>(prefixMatches.size());
+            prefixMatches.forEach(name -> matches.add(new NameMatch(name, true, 0)));
+            if (matches.size() == limit || bkTree == null) {
+                return matches;
+            }
+
+            int maxDistance = normalized.length() <= SHORT_QUERY_LENGTH ? 1 : MAX_DISTANCE;
+            List<NameMatch> fuzzyMatches = new ArrayList<>();
+            bkTree.collect(normalized, maxDistance, fuzzyMatches);
+            fuzzyMatches.stream()
+                        .filter(match -> !prefixMatches.contains(match.name()))
+                        .sorted(Comparator.comparingInt(NameMatch::distance)
+                                          .thenComparing(NameMatch::name))
+                        .limit(limit - matches.size())
+                        .forEach(matches::add);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts a normalized name into both structures; must be called while holding the write lock.
+     */
+    private boolean insert(String name) {
+        TrieNode node = trie;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.childOrCreate(name.charAt(i));
+        }
+        if (node.word != null) {
+            return false;
+        }
+
+        node.word = name;
+        if (bkTree == null) {
+            bkTree = new BkNode(name);
+        } else {
+            bkTree.add(name);
+        }
+        size++;
+        return true;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings, giving up once it exceeds {@code bound}.
+     *
+     * @return the distance, or {@code bound + 1} if it is larger than {@code bound}
+     */
+    static int distance(String a, String b, int bound) {
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+
+    /**
+     * A trie node whose children are kept sorted by character.
+     */
+    private static final class TrieNode {
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private String word;
+
+        private TrieNode find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.keys, prefix.charAt(i));
+                node = index >= 0 ? node.children[index] : null;
+            }
+            return node;
+        }
+
+        private TrieNode childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertion = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            newKeys[insertion] = key;
+            newChildren[insertion] = new TrieNode();
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertion];
+        }
+
+        /**
+         * Collects the words under this node in alphabetical order, until {@code limit} are collected.
+         */
+        private void collect(Collection<String> words, int limit) {
+            if (word != null) {
+                words.add(word);
+            }
+            for (int i = 0; i < children.length && words.size() < limit; i++) {
+                children[i].collect(words, limit);
+            }
+        }
+    }
+
+    /**
+     * A BK-tree node; the child at index {@code d} holds the names at distance {@code d} from this node's name.
+     */
+    private static final class BkNode {
+        private final String name;
+        private BkNode[] children = new BkNode[0];
+
+        private BkNode(String name) {
+            this.name = name;
+        }
+
+        private void add(String word) {
+            BkNode node = this;
+            while (true) {
+                int d = distance(word, node.name, Integer.MAX_VALUE - 1);
+                if (d >= node.children.length) {
+                    node.children = Arrays.copyOf(node.children, d + 1);
+                }
+                if (node.children[d] == null) {
+                    node.children[d] = new BkNode(word);
+                    return;
+                }
+                node = node.children[d];
+            }
+        }
+
+        /**
+         * Collects the names within {@code maxDistance} of the query.
+         * Distances beyond the farthest child plus {@code maxDistance} cannot lead to a match,
+         * so the distance computation gives up there.
+         */
+        private void collect(String query, int maxDistance, List<NameMatch> matches) {
+            int d = distance(query, name, children.length - 1 + maxDistance);
+            if (d <= maxDistance) {
+                matches.add(new NameMatch(name, false, d));
+            }
+
+            int from = Math.max(1, d - maxDistance);
+            int to = Math.min(children.length - 1, d + maxDistance);
+            for (int i = from; i <= to; i++) {
+                if (children[i] != null) {
+                    children[i].collect(query, maxDistance, matches);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.poke.api.middleware.application;
+
+/**
+ * Represents a name found by a {@link NameIndex} search.
+ *
+ * @param name     the matching Pokémon name
+ * @param prefix   whether the name starts with the query
+ * @param distance the number of single-character edits turning the query into the name; {@code 0} for prefix matches
+ */
+public record NameMatch(
+        String name,
+        boolean prefix,
+        int distance
+) {
+}
@@ -3,6 +3,7 @@ package com.poke.api.middleware.application;
 import com.poke.api.middleware.domain.Pokemon;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Defines an interface for accessing {@link Pokemon} data from an external source or service.
@@ -18,4 +19,20 @@ public interface PokemonGateway {
      * @return an {@link Optional} containing the found {@link Pokemon}, or empty if no Pokémon is found
      */
     Optional<Pokemon> findByName(String name);
+
+    /**
+     * Finds a {@link Pokemon} by its name without blocking the calling thread on I/O.
+     * The default implementation runs {@link #findByName(String)} on the calling thread;
+     * non-blocking implementations override it.
+     *
+     * @param name the name of the Pokémon to search for
+     * @return a {@link CompletableFuture} completed with the found {@link Pokemon}, or empty if no Pokémon is found
+     */
+    default CompletableFuture<Optional<Pokemon>> findByNameAsync(String name) {
+        try {
+            return CompletableFuture.completedFuture(findByName(name));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
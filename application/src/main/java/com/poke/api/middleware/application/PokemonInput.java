@@ -1,5 +1,6 @@
 package com.poke.api.middleware.application;
 
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -37,4 +38,15 @@ public record PokemonInput(
     public static PokemonInput with(final String name) {
         return new PokemonInput(name);
     }
+
+    /**
+     * Gets the name in its normalized form, trimmed and in lower case,
+     * so that different spellings of the same name can be recognized as one.
+     *
+     * @return the normalized name of the Pokémon
+     */
+    public String normalizedName() {
+        return name.trim()
+                   .toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,17 @@
+package com.poke.api.middleware.application;
+
+/**
+ * An {@link ApplicationException} thrown when a Pokémon is known not to exist,
+ * without having asked any cache or gateway.
+ */
+public class PokemonNotFoundException extends ApplicationException {
+
+    /**
+     * Constructs a new {@code PokemonNotFoundException} for the given name.
+     *
+     * @param name the name of the Pokémon that does not exist
+     */
+    public PokemonNotFoundException(String name) {
+        super("Pokemon '" + name + "' not found");
+    }
+}
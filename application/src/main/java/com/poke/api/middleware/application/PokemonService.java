@@ -2,6 +2,9 @@ package com.poke.api.middleware.application;
 
 import com.poke.api.middleware.domain.Pokemon;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service class responsible for handling Pokémon-related operations, such as searching for a Pokémon.
  * It interacts with both a data source and an external gateway to fetch Pokémon information.
@@ -9,6 +12,8 @@ import com.poke.api.middleware.domain.Pokemon;
 public class PokemonService {
 
     private final PokemonGateway gateway;
+    private final SingleFlight<String, PokemonOutput> searches;
+    private final KnownPokemonNames knownNames;
 
     /**
      * Constructs a {@code PokemonService} with the specified data source and gateway.
@@ -17,25 +22,121 @@ public class PokemonService {
      */
     public PokemonService(
             PokemonGateway gateway
+    ) {
+        this(
+                gateway,
+                new SingleFlight<>()
+        );
+    }
+
+    /**
+     * Constructs a {@code PokemonService} with the specified gateway and the {@link SingleFlight}
+     * used to coalesce concurrent searches for the same Pokémon.
+     * Every name is assumed to exist.
+     *
+     * @param gateway  the {@link PokemonGateway} for accessing external Pokémon data
+     * @param searches the {@link SingleFlight} shared by concurrent searches, keyed by normalized name
+     */
+    public PokemonService(
+            PokemonGateway gateway,
+            SingleFlight<String, PokemonOutput> searches
+    ) {
+        this(
+                gateway,
+                searches,
+                new KnownPokemonNames(0.01)
+        );
+    }
+
+    /**
+     * Constructs a {@code PokemonService} with the specified gateway, the {@link SingleFlight}
+     * used to coalesce concurrent searches, and the {@link KnownPokemonNames} rejecting names that cannot exist.
+     *
+     * @param gateway    the {@link PokemonGateway} for accessing external Pokémon data
+     * @param searches   the {@link SingleFlight} shared by concurrent searches, keyed by normalized name
+     * @param knownNames the {@link KnownPokemonNames} checked before any lookup
+     */
+    public PokemonService(
+            PokemonGateway gateway,
+            SingleFlight<String, PokemonOutput> searches,
+            KnownPokemonNames knownNames
     ) {
         this.gateway = gateway;
+        this.searches = searches;
+        this.knownNames = knownNames;
+    }
+
+    /**
+     * Rejects a name that is certainly not the name of a Pokémon, so callers can skip every cache and gateway.
+     *
+     * @param input the {@link PokemonInput} containing the name of the Pokémon to search
+     * @throws PokemonNotFoundException if no Pokémon can have that name
+     */
+    public void requireKnown(PokemonInput input) {
+        String name = input.normalizedName();
+        if (!knownNames.mightExist(name)) {
+            throw new PokemonNotFoundException(name);
+        }
     }
 
     /**
      * Searches for a {@link Pokemon} by name. If the Pokémon is not found in the local data source,
      * it retrieves it from the external gateway, sorts its abilities, saves it to the local data source,
      * and then returns the result.
+     * A name rejected by the {@link KnownPokemonNames} fails before any lookup.
+     * The gateway is queried with the normalized name, so concurrent searches for any spelling of the same name
+     * share a single lookup through the gateway, and its result is right for all of them.
      *
      * @param input the {@link PokemonInput} containing the name of the Pokémon to search
      * @return a {@link PokemonOutput} representing the Pokémon data
+     * @throws PokemonNotFoundException if no Pokémon can have that name
      * @throws ApplicationException if the Pokémon is not found in both the data source and the gateway
      */
     public PokemonOutput search(PokemonInput input) {
-        Pokemon pokemon = gateway.findByName(input.name())
-                                 .orElseThrow(() -> new ApplicationException("Pokemon not found"));
+        requireKnown(input);
+        String name = input.normalizedName();
+        return searches.execute(
+                name,
+                () -> toOutput(gateway.findByName(name))
+        );
+    }
+
+    /**
+     * Searches for a {@link Pokemon} by name without blocking the calling thread on the gateway I/O.
+     * Concurrent searches for the same normalized name, synchronous or not, share a single lookup through the gateway.
+     *
+     * @param input the {@link PokemonInput} containing the name of the Pokémon to search
+     * @return a {@link CompletableFuture} completed with the {@link PokemonOutput} representing the Pokémon data,
+     * or completed exceptionally with an {@link ApplicationException} if the Pokémon is not found
+     */
+    public CompletableFuture<PokemonOutput> searchAsync(PokemonInput input) {
+        try {
+            requireKnown(input);
+        } catch (PokemonNotFoundException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String name = input.normalizedName();
+        return searches.executeAsync(
+                name,
+                () -> gateway.findByNameAsync(name)
+                             .thenApply(this::toOutput)
+        );
+    }
+
+    private PokemonOutput toOutput(Optional<Pokemon> found) {
+        Pokemon pokemon = found.orElseThrow(() -> new ApplicationException("Pokemon not found"));
 
         pokemon.sortAbilities();
 
         return PokemonOutput.from(pokemon);
     }
+
+    /**
+     * Gets the number of searches that shared the lookup of a concurrent search for the same Pokémon.
+     *
+     * @return the number of coalesced searches
+     */
+    public long coalescedSearches() {
+        return searches.coalescedCount();
+    }
 }
@@ -0,0 +1,288 @@
+package com.poke.api.middleware.application;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate of a call that has not answered within a percentile of the latencies observed so far,
+ * and completes with whichever attempt answers first, so a single slow response does not delay the caller.
+ * <p>
+ * The latencies of the last successful attempts are kept in a fixed window, from which the hedge delay is recomputed
+ * every few samples; no call is hedged until enough samples were observed. The call fails only once every attempt
+ * sent failed. The attempt that lost is cancelled, and cancelling the call cancels every attempt.
+ * <p>
+ * Duplicates are started on the hedge executor, which the delay timer only hands them to: a duplicate is skipped
+ * when that executor rejects it, rather than run on the timer thread.
+ */
+public class RequestHedger {
+    private static final int MIN_SAMPLES = 20;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long[] samples;
+    private final int recomputeEvery;
+    private final Executor hedgeExecutor;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private int recorded;
+    private volatile long delayNanos = -1;
+
+    /**
+     * Constructs a new {@link RequestHedger}.
+     *
+     * @param enabled       whether calls are hedged at all; when {@code false}, every call is made once, as is
+     * @param percentile    the percentile of the observed latencies after which a duplicate is sent, between {@code 0} and {@code 1}
+     * @param minDelay      the shortest delay before a duplicate is sent, whatever the observed latencies
+     * @param unit          the unit of {@code minDelay}
+     * @param windowSize    the number of recent latencies the percentile is computed over
+     * @param hedgeExecutor the {@link Executor} the duplicates are started on; it should reject work when saturated
+     * @throws IllegalArgumentException if the percentile or the window size is out of range
+     */
+    public RequestHedger(
+            boolean enabled,
+            double percentile,
+            long minDelay,
+            TimeUnit unit,
+            int windowSize,
+            Executor hedgeExecutor
+    ) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1, was " + percentile);
+        }
+        if (windowSize < MIN_SAMPLES) {
+            throw new IllegalArgumentException("windowSize must be at least " + MIN_SAMPLES + ", was " + windowSize);
+        }
+
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = unit.toNanos(minDelay);
+        this.samples = new long[windowSize];
+        this.recomputeEvery = Math.max(1, windowSize / 16);
+        this.hedgeExecutor = hedgeExecutor;
+    }
+
+    /**
+     * Makes a call, sending a duplicate if it has not answered within the hedge delay.
+     *
+     * @param attempt starts one attempt of the call; it is invoked once, or twice when the call is hedged
+     * @param <T>     the type of the call result
+     * @return a {@link CompletableFuture} completed with the result of the first successful attempt,
+     * or with the failure of the last attempt if none succeeded; cancelling it cancels the attempts
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        if (delayNanos < 0) {
+            return timed(attempt);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        call(result, future -> {
+            CompletableFuture<T> started = attempt.get();
+            future.whenComplete((value, failure) -> {
+                if (future.isCancelled()) {
+                    started.cancel(true);
+                }
+            });
+            started.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    future.complete(value);
+                } else {
+                    future.completeExceptionally(unwrap(failure));
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Makes a call whose attempts may block, sending a duplicate if it has not answered within the hedge delay.
+     * The first attempt runs on the calling thread, so this method returns once it ended; the duplicate runs on the
+     * hedge executor. Each attempt is given its own future to complete, which is cancelled once the other attempt
+     * won or {@code result} was cancelled, so that the attempt can abort its I/O.
+     *
+     * @param result  the future completed with the result of the first successful attempt,
+     *                or with the failure of the last attempt if none succeeded
+     * @param attempt makes one attempt of the call, completing the future it is given
+     * @param <T>     the type of the call result
+     */
+    public <T> void call(CompletableFuture<T> result, Consumer<CompletableFuture<T>> attempt) {
+        long delay = enabled ? delayNanos : -1;
+        if (delay < 0) {
+            start(attempt, result);
+            return;
+        }
+
+        HedgedCall<T> call = new HedgedCall<>(result);
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS)
+                         .execute(() -> call.hedge(attempt));
+        call.start(attempt, call.primary, false);
+    }
+
+    /**
+     * Gets the delay after which a call is hedged.
+     *
+     * @return the hedge delay in nanoseconds, or {@code -1} while too few latencies were observed
+     */
+    public long hedgeDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Gets the number of duplicate attempts sent.
+     *
+     * @return the number of hedges sent
+     */
+    public long hedgesSent() {
+        return sent.sum();
+    }
+
+    /**
+     * Gets the number of calls answered by their duplicate attempt.
+     *
+     * @return the number of hedges that won
+     */
+    public long hedgesWon() {
+        return won.sum();
+    }
+
+    /**
+     * Gets the number of duplicate attempts not sent because the hedge executor was saturated.
+     *
+     * @return the number of hedges skipped
+     */
+    public long hedgesSkipped() {
+        return skipped.sum();
+    }
+
+    private <T> CompletableFuture<T> timed(Supplier<CompletableFuture<T>> attempt) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException | Error e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, failure) -> {
+            if (failure == null) {
+                record(System.nanoTime() - start);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Runs one attempt completing {@code future}, observing its latency when hedging is enabled.
+     */
+    private <T> void start(Consumer<CompletableFuture<T>> attempt, CompletableFuture<T> future) {
+        if (enabled) {
+            long start = System.nanoTime();
+            future.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    record(System.nanoTime() - start);
+                }
+            });
+        }
+        try {
+            attempt.accept(future);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void record(long latencyNanos) {
+        samples[recorded % samples.length] = latencyNanos;
+        recorded++;
+        if (recorded >= MIN_SAMPLES && recorded % recomputeEvery == 0) {
+            long[] window = Arrays.copyOf(samples, Math.min(recorded, samples.length));
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile * window.length) - 1;
+            delayNanos = Math.max(minDelayNanos, window[Math.max(0, index)]);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * The attempts of a single call and the result they race to complete.
+     */
+    private final class HedgedCall<T> {
+        private final CompletableFuture<T> result;
+        private final CompletableFuture<T> primary = new CompletableFuture<>();
+        private final CompletableFuture<T> duplicate = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicBoolean answered = new AtomicBoolean();
+
+        private HedgedCall(CompletableFuture<T> result) {
+            this.result = result;
+            result.whenComplete((value, failure) -> {
+                if (result.isCancelled()) {
+                    primary.cancel(true);
+                    duplicate.cancel(true);
+                }
+            });
+        }
+
+        /**
+         * Hands the duplicate attempt to the hedge executor, unless the call already completed
+         * or the executor is saturated.
+         */
+        private void hedge(Consumer<CompletableFuture<T>> attempt) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                hedgeExecutor.execute(() -> {
+                    if (result.isDone() || pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                        return;
+                    }
+                    sent.increment();
+                    start(attempt, duplicate, true);
+                });
+            } catch (RejectedExecutionException e) {
+                skipped.increment();
+            }
+        }
+
+        private void start(Consumer<CompletableFuture<T>> attempt, CompletableFuture<T> future, boolean fromDuplicate) {
+            future.whenComplete((value, failure) -> settle(value, failure, fromDuplicate));
+            RequestHedger.this.start(attempt, future);
+        }
+
+        private void settle(T value, Throwable failure, boolean fromDuplicate) {
+            int left = pending.decrementAndGet();
+            if (failure == null) {
+                if (!result.isDone() && answered.compareAndSet(false, true)) {
+                    if (fromDuplicate) {
+                        won.increment();
+                    }
+                    cancelLoser(fromDuplicate);
+                    result.complete(value);
+                }
+            } else if (left == 0 && !answered.get()) {
+                result.completeExceptionally(unwrap(failure));
+            }
+        }
+
+        private void cancelLoser(boolean fromDuplicate) {
+            CompletableFuture<T> loser = fromDuplicate ? primary : duplicate;
+            if (!loser.isDone()) {
+                loser.cancel(true);
+            }
+        }
+    }
+}
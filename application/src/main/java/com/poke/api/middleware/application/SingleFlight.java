@@ -0,0 +1,150 @@
+package com.poke.api.middleware.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * The first caller for a key runs the computation, and every caller arriving while it is still running
+ * waits for and shares its result, or its exception. Once the computation finishes, the next call starts a new one.
+ * An asynchronous computation is cancelled once every caller waiting for it cancelled its future.
+ *
+ * @param <K> the type of the keys identifying a computation
+ * @param <V> the type of the computed values
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the computation for the given key, or joins the one already running for it.
+     *
+     * @param key      the key identifying the computation
+     * @param supplier the computation to run when no other caller is running it
+     * @return the computed value
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        Flight<V> future = new Flight<>();
+        Flight<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalesced.increment();
+            running.waiters.incrementAndGet();
+            return await(running);
+        }
+
+        try {
+            V value = supplier.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Starts the asynchronous computation for the given key, or joins the one already running for it.
+     * Synchronous and asynchronous callers of the same key share the same computation.
+     * Each caller gets its own future; cancelling it only cancels the computation once no other caller waits for it.
+     *
+     * @param key      the key identifying the computation
+     * @param supplier the computation to start when no other caller is running it
+     * @return a {@link CompletableFuture} completed with the computed value
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> supplier) {
+        Flight<V> future = new Flight<>();
+        Flight<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalesced.increment();
+            return running.waiter();
+        }
+
+        CompletableFuture<V> waiter = future.waiter();
+        CompletableFuture<V> computation;
+        try {
+            computation = supplier.get();
+        } catch (RuntimeException | Error e) {
+            computation = CompletableFuture.failedFuture(e);
+        }
+        future.start(computation);
+
+        computation.whenComplete((value, failure) -> {
+            inFlight.remove(key, future);
+            if (failure == null) {
+                future.complete(value);
+            } else {
+                future.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                                             ? failure.getCause()
+                                             : failure);
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Gets the number of callers that shared the result of a computation started by another caller.
+     *
+     * @return the number of coalesced callers
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private V await(Flight<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The shared result of a computation, counting the callers still waiting for it.
+     */
+    private static final class Flight<V> extends CompletableFuture<V> {
+        private final AtomicInteger waiters = new AtomicInteger();
+        private volatile CompletableFuture<V> computation;
+
+        /**
+         * Creates the future of one more caller, which stops waiting when cancelled.
+         */
+        private CompletableFuture<V> waiter() {
+            waiters.incrementAndGet();
+            CompletableFuture<V> waiter = copy();
+            waiter.whenComplete((value, failure) -> {
+                if (waiter.isCancelled() && waiters.decrementAndGet() == 0) {
+                    cancelComputation();
+                }
+            });
+            return waiter;
+        }
+
+        private void start(CompletableFuture<V> computation) {
+            this.computation = computation;
+            if (waiters.get() == 0) {
+                cancelComputation();
+            }
+        }
+
+        private void cancelComputation() {
+            CompletableFuture<V> running = computation;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+}
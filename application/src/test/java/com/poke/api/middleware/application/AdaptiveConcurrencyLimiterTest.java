@@ -0,0 +1,105 @@
+package com.poke.api.middleware.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link AdaptiveConcurrencyLimiter} class.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(4, 2, 8, 0.5, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Test that calls beyond the limit are rejected and counted.
+     */
+    @Test
+    void testRejectsCallsBeyondLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.inFlight());
+        assertEquals(1, limiter.rejectedCount());
+    }
+
+    /**
+     * Test that fast calls raise the limit while it is being used, up to the maximum.
+     */
+    @Test
+    void testFastCallsIncreaseLimit() {
+        for (int i = 0; i < 20; i++) {
+            int acquired = 0;
+            while (acquired < 4 && limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.onSuccess(FAST);
+            }
+        }
+
+        assertEquals(8, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    /**
+     * Test that fast calls do not raise the limit when most of it is unused.
+     */
+    @Test
+    void testUnusedLimitDoesNotGrow() {
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(FAST);
+        }
+
+        assertEquals(4, limiter.limit());
+    }
+
+    /**
+     * Test that slow and failed calls lower the limit, down to the minimum.
+     */
+    @Test
+    void testSlowAndFailedCallsDecreaseLimit() {
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        assertEquals(2, limiter.limit());
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertEquals(2, limiter.limit());
+    }
+
+    /**
+     * Test that ignored calls release their slot without changing the limit.
+     */
+    @Test
+    void testIgnoredCallsKeepLimit() {
+        limiter.tryAcquire();
+        limiter.onIgnore();
+
+        assertEquals(4, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    /**
+     * Test that inconsistent settings are rejected.
+     */
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 2, 8, 0.5, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(4, 2, 8, 1, 1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,82 @@
+package com.poke.api.middleware.application;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BloomFilter} class.
+ */
+class BloomFilterTest {
+
+    /**
+     * Test that every string put is reported as possibly contained.
+     */
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(2000, 0.01);
+        for (int i = 0; i < 2000; i++) {
+            filter.put("pokemon-" + i);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(filter.mightContain("pokemon-" + i));
+        }
+        assertEquals(2000, filter.approximateCount(), 20);
+    }
+
+    /**
+     * Test that the observed false-positive rate stays close to the requested one,
+     * and that the estimate exposed as a metric agrees with it.
+     */
+    @Test
+    void testFalsePositiveRateMatchesConfiguration() {
+        BloomFilter filter = BloomFilter.create(2000, 0.01);
+        for (int i = 0; i < 2000; i++) {
+            filter.put("pokemon-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives / 100_000.0 < 0.02, "observed " + falsePositives);
+        assertEquals(0.01, filter.expectedFpp(), 0.005);
+    }
+
+    /**
+     * Test that putting a string twice does not change the filter the second time.
+     */
+    @Test
+    void testPutReportsChanges() {
+        BloomFilter filter = BloomFilter.create(10, 0.01);
+
+        assertTrue(filter.put("ditto"));
+        assertFalse(filter.put("ditto"));
+        assertEquals(1, filter.approximateCount());
+        assertEquals(0, filter.bitSize() % Long.SIZE);
+    }
+
+    /**
+     * Test that an empty filter contains nothing and has no false positives.
+     */
+    @Test
+    void testEmptyFilter() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertFalse(filter.mightContain("mew"));
+        assertEquals(0, filter.expectedFpp());
+    }
+
+    /**
+     * Test that an invalid false-positive probability is rejected.
+     */
+    @Test
+    void testInvalidFpp() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+    }
+}
@@ -0,0 +1,70 @@
+package com.poke.api.middleware.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link KnownPokemonNames} class.
+ */
+class KnownPokemonNamesTest {
+
+    private KnownPokemonNames knownNames;
+
+    @BeforeEach
+    void setUp() {
+        knownNames = new KnownPokemonNames(0.001);
+    }
+
+    /**
+     * Test that every name is assumed to exist before the filter is built.
+     */
+    @Test
+    void testEveryNamePassesBeforeRebuild() {
+        assertTrue(knownNames.mightExist("missingno"));
+        assertFalse(knownNames.isComplete());
+        assertEquals(1, knownNames.expectedFpp());
+    }
+
+    /**
+     * Test that an incomplete list of names never rejects a name.
+     */
+    @Test
+    void testIncompleteListRejectsNothing() {
+        knownNames.rebuild(List.of("bulbasaur"), false);
+
+        assertTrue(knownNames.mightExist("missingno"));
+        assertEquals(0, knownNames.rejections());
+    }
+
+    /**
+     * Test that a complete list rejects unknown names, ignoring case, whitespace and numeric ids.
+     */
+    @Test
+    void testCompleteListRejectsUnknownNames() {
+        knownNames.rebuild(List.of("bulbasaur", "ivysaur", "venusaur"), true);
+
+        assertTrue(knownNames.mightExist(" Bulbasaur "));
+        assertTrue(knownNames.mightExist("25"));
+        assertFalse(knownNames.mightExist("missingno"));
+        assertEquals(1, knownNames.rejections());
+        assertTrue(knownNames.expectedFpp() < 0.01);
+    }
+
+    /**
+     * Test that names added after a rebuild pass, and that a rebuild replaces the previous names.
+     */
+    @Test
+    void testAddAndRebuild() {
+        knownNames.rebuild(List.of("bulbasaur"), true);
+        knownNames.add("pikachu");
+        assertTrue(knownNames.mightExist("pikachu"));
+
+        knownNames.rebuild(List.of("charmander"), true);
+        assertTrue(knownNames.mightExist("charmander"));
+        assertFalse(knownNames.mightExist("bulbasaur"));
+    }
+}
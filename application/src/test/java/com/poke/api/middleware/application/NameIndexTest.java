@@ -0,0 +1,121 @@
+package com.poke.api.middleware.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link NameIndex} class.
+ */
+class NameIndexTest {
+
+    private NameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameIndex();
+        index.addAll(List.of("pikachu", "pichu", "raichu", "bulbasaur", "ivysaur", "venusaur", "charmander", "charmeleon"));
+    }
+
+    /**
+     * Test that names starting with the query are returned first, in alphabetical order.
+     */
+    @Test
+    void testSearchReturnsPrefixMatchesInAlphabeticalOrder() {
+        List<NameMatch> matches = index.search("charm", 10);
+
+        assertEquals(
+                List.of(new NameMatch("charmander", true, 0), new NameMatch("charmeleon", true, 0)),
+                matches
+        );
+    }
+
+    /**
+     * Test that an exact name comes before the longer names sharing it as a prefix.
+     */
+    @Test
+    void testSearchReturnsExactNameFirst() {
+        index.add("pikachu-gmax");
+
+        List<NameMatch> matches = index.search("pikachu", 10);
+
+        assertEquals("pikachu", matches.get(0).name());
+        assertEquals("pikachu-gmax", matches.get(1).name());
+    }
+
+    /**
+     * Test that misspelled queries find the names within the allowed number of edits, closest first.
+     */
+    @Test
+    void testSearchReturnsFuzzyMatchesByDistance() {
+        List<NameMatch> matches = index.search("pikachoo", 10);
+
+        assertEquals(List.of(new NameMatch("pikachu", false, 2)), matches);
+        assertEquals(new NameMatch("ivysaur", false, 1), index.search("ivysaut", 10).get(0));
+    }
+
+    /**
+     * Test that short queries only allow a single edit.
+     */
+    @Test
+    void testSearchAllowsOneEditForShortQueries() {
+        List<NameMatch> matches = index.search("pchu", 10);
+
+        assertEquals(List.of(new NameMatch("pichu", false, 1)), matches);
+    }
+
+    /**
+     * Test that the number of matches is capped by the limit.
+     */
+    @Test
+    void testSearchHonorsLimit() {
+        assertEquals(1, index.search("charm", 1).size());
+        assertTrue(index.search("charm", 0).isEmpty());
+    }
+
+    /**
+     * Test that names and queries are compared ignoring case and surrounding whitespace.
+     */
+    @Test
+    void testSearchIgnoresCaseAndWhitespace() {
+        assertTrue(index.add(" Mewtwo "));
+
+        assertEquals(List.of(new NameMatch("mewtwo", true, 0)), index.search("  MEW", 10));
+        assertTrue(index.contains("MEWTWO"));
+    }
+
+    /**
+     * Test that blank queries return no matches.
+     */
+    @Test
+    void testSearchBlankQueryReturnsNothing() {
+        assertTrue(index.search("   ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+
+    /**
+     * Test that adding an indexed or blank name does not change the index.
+     */
+    @Test
+    void testAddIgnoresDuplicatesAndBlankNames() {
+        assertFalse(index.add("PIKACHU"));
+        assertFalse(index.add(" "));
+        assertEquals(8, index.size());
+        assertEquals(0, index.addAll(List.of("pichu", "raichu")));
+    }
+
+    /**
+     * Test that the bounded Levenshtein distance is exact within the bound and capped beyond it.
+     */
+    @Test
+    void testDistance() {
+        assertEquals(0, NameIndex.distance("ditto", "ditto", 2));
+        assertEquals(1, NameIndex.distance("ditto", "dito", 2));
+        assertEquals(2, NameIndex.distance("eevee", "evie", 2));
+        assertEquals(3, NameIndex.distance("abra", "kadabra", 2));
+        assertEquals(3, NameIndex.distance("mew", "xyz", 2));
+    }
+}
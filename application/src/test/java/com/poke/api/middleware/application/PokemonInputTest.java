@@ -39,4 +39,13 @@ class PokemonInputTest {
         assertNotNull(input);
         assertEquals("Charmander", input.name());
     }
+
+    /**
+     * Test that the normalized name is trimmed and in lower case.
+     */
+    @Test
+    void testNormalizedName() {
+        PokemonInput input = PokemonInput.with(" Charmander ");
+        assertEquals("charmander", input.normalizedName());
+    }
 }
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,12 +40,12 @@ class PokemonServiceTest {
         Ability ability = Ability.from(1, "Blaze", "Boosts fire-type moves");
         Pokemon pokemon = Pokemon.from(1, pokemonName, faker.internet().avatar(), List.of(ability));
 
-        when(gateway.findByName(pokemonName)).thenReturn(Optional.of(pokemon));
+        when(gateway.findByName(normalized(pokemonName))).thenReturn(Optional.of(pokemon));
 
         PokemonInput input = new PokemonInput(pokemonName);
         PokemonOutput output = service.search(input);
 
-        verify(gateway, times(1)).findByName(pokemonName);
+        verify(gateway, times(1)).findByName(normalized(pokemonName));
         assertEquals(pokemonName, output.name());
         assertEquals(pokemon.getSprite(), output.sprite());
         assertEquals(1, output.abilities().size());
@@ -57,13 +59,13 @@ class PokemonServiceTest {
     void testSearchPokemonNotFoundAnywhere() {
         String pokemonName = faker.pokemon().name();
 
-        when(gateway.findByName(pokemonName)).thenReturn(Optional.empty());
+        when(gateway.findByName(normalized(pokemonName))).thenReturn(Optional.empty());
 
         PokemonInput input = new PokemonInput(pokemonName);
         Exception exception = assertThrows(ApplicationException.class, () -> service.search(input));
 
         assertEquals("Pokemon not found", exception.getMessage());
-        verify(gateway, times(1)).findByName(pokemonName);
+        verify(gateway, times(1)).findByName(normalized(pokemonName));
     }
 
     /**
@@ -77,15 +79,96 @@ class PokemonServiceTest {
         Ability ability2 = Ability.from(2, "Solar Power", "Increases Sp. Atk");
         Pokemon pokemon = Pokemon.from(1, pokemonName, faker.internet().avatar(), List.of(ability2, ability1));
 
-        when(gateway.findByName(pokemonName)).thenReturn(Optional.of(pokemon));
+        when(gateway.findByName(normalized(pokemonName))).thenReturn(Optional.of(pokemon));
 
         PokemonInput input = new PokemonInput(pokemonName);
         PokemonOutput output = service.search(input);
 
-        verify(gateway, times(1)).findByName(pokemonName);
+        verify(gateway, times(1)).findByName(normalized(pokemonName));
 
         // Verify that abilities are sorted in alphabetical order
         assertEquals("Blaze", output.abilities().get(0).name());
         assertEquals("Solar Power", output.abilities().get(1).name());
     }
+
+    /**
+     * Test scenario where the Pokémon is found through the asynchronous gateway lookup.
+     */
+    @Test
+    void testSearchAsyncPokemonFoundInGateway() {
+        String pokemonName = faker.pokemon().name();
+        Ability ability1 = Ability.from(1, "Blaze", "Boosts fire-type moves");
+        Ability ability2 = Ability.from(2, "Solar Power", "Increases Sp. Atk");
+        Pokemon pokemon = Pokemon.from(1, pokemonName, faker.internet().avatar(), List.of(ability2, ability1));
+
+        when(gateway.findByNameAsync(normalized(pokemonName))).thenReturn(CompletableFuture.completedFuture(Optional.of(pokemon)));
+
+        PokemonOutput output = service.searchAsync(new PokemonInput(pokemonName)).join();
+
+        verify(gateway, times(1)).findByNameAsync(normalized(pokemonName));
+        verify(gateway, never()).findByName(normalized(pokemonName));
+        assertEquals(pokemonName, output.name());
+        assertEquals("Blaze", output.abilities().get(0).name());
+    }
+
+    /**
+     * Test scenario where the asynchronous gateway lookup finds nothing,
+     * completing the search with an ApplicationException.
+     */
+    @Test
+    void testSearchAsyncPokemonNotFound() {
+        String pokemonName = faker.pokemon().name();
+
+        when(gateway.findByNameAsync(normalized(pokemonName))).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        CompletableFuture<PokemonOutput> result = service.searchAsync(new PokemonInput(pokemonName));
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+
+        assertInstanceOf(ApplicationException.class, exception.getCause());
+        assertEquals("Pokemon not found", exception.getCause().getMessage());
+    }
+
+    /**
+     * Test scenario where the name is not in the complete list of known Pokémon,
+     * failing the search without calling the gateway.
+     */
+    @Test
+    void testSearchUnknownNameRejectedBeforeGateway() {
+        KnownPokemonNames knownNames = new KnownPokemonNames(0.01);
+        knownNames.rebuild(List.of("bulbasaur", "ivysaur"), true);
+        service = new PokemonService(gateway, new SingleFlight<>(), knownNames);
+
+        PokemonInput input = new PokemonInput("bulbasaurr");
+        assertThrows(PokemonNotFoundException.class, () -> service.search(input));
+        CompletableFuture<PokemonOutput> result = service.searchAsync(input);
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+
+        assertInstanceOf(PokemonNotFoundException.class, exception.getCause());
+        verifyNoInteractions(gateway);
+    }
+
+    /**
+     * Test scenario where concurrent searches for two spellings of the same name
+     * share a single gateway lookup of the normalized name, and get the same result.
+     */
+    @Test
+    void testConcurrentSpellingsShareNormalizedLookup() throws Exception {
+        Pokemon pokemon = Pokemon.from(25, "pikachu", faker.internet().avatar(), List.of(Ability.from(9, "Static", "Paralyzes")));
+        CompletableFuture<Optional<Pokemon>> lookup = new CompletableFuture<>();
+        when(gateway.findByNameAsync("pikachu")).thenReturn(lookup);
+
+        CompletableFuture<PokemonOutput> padded = service.searchAsync(new PokemonInput(" Pikachu "));
+        CompletableFuture<PokemonOutput> plain = service.searchAsync(new PokemonInput("pikachu"));
+        lookup.complete(Optional.of(pokemon));
+
+        assertEquals("pikachu", padded.get().name());
+        assertEquals(padded.get(), plain.get());
+        verify(gateway, times(1)).findByNameAsync("pikachu");
+        verify(gateway, never()).findByNameAsync(" Pikachu ");
+        assertEquals(1, service.coalescedSearches());
+    }
+
+    private static String normalized(String name) {
+        return new PokemonInput(name).normalizedName();
+    }
 }
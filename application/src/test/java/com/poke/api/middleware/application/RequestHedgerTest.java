@@ -0,0 +1,217 @@
+package com.poke.api.middleware.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RequestHedger} class.
+ */
+class RequestHedgerTest {
+
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        hedger = new RequestHedger(true, 0.95, 20, TimeUnit.MILLISECONDS, 100, Runnable::run);
+    }
+
+    /**
+     * Test that calls are not hedged before enough latencies were observed.
+     */
+    @Test
+    void testNoHedgeWithoutSamples() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.callAsync(() -> pending);
+
+        assertSame(pending, result);
+        assertEquals(-1, hedger.hedgeDelayNanos());
+    }
+
+    /**
+     * Test that a slow call is duplicated, and that the duplicate's answer is used and counted.
+     */
+    @Test
+    void testSlowCallIsHedgedAndDuplicateWins() throws Exception {
+        warmUp();
+        List<CompletableFuture<String>> attempts = new ArrayList<>();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.callAsync(() -> {
+            CompletableFuture<String> attempt = attempts.isEmpty() ? slow : CompletableFuture.completedFuture("pikachu");
+            attempts.add(attempt);
+            return attempt;
+        });
+
+        assertEquals("pikachu", result.get(1, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+        assertEquals(1, hedger.hedgesSent());
+        assertEquals(1, hedger.hedgesWon());
+        assertTrue(slow.isCancelled());
+    }
+
+    /**
+     * Test that a call answering before the hedge delay is not duplicated.
+     */
+    @Test
+    void testFastCallIsNotHedged() throws Exception {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = hedger.callAsync(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture("pikachu");
+        });
+
+        assertEquals("pikachu", result.get(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(1, attempts.get());
+        assertEquals(0, hedger.hedgesSent());
+    }
+
+    /**
+     * Test that a hedged call fails only once every attempt failed.
+     */
+    @Test
+    void testFailsWhenEveryAttemptFails() throws Exception {
+        warmUp();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = hedger.callAsync(() -> attempts.getAndIncrement() == 0
+                                                                  ? slow
+                                                                  : CompletableFuture.failedFuture(new IllegalStateException("duplicate")));
+        while (attempts.get() < 2) {
+            Thread.sleep(5);
+        }
+        assertFalse(result.isDone());
+        slow.completeExceptionally(new IllegalStateException("primary"));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertEquals("primary", failure.getCause().getMessage());
+        assertEquals(0, hedger.hedgesWon());
+    }
+
+    /**
+     * Test that cancelling a hedged call cancels both of its attempts.
+     */
+    @Test
+    void testCancellingCallCancelsAttempts() throws Exception {
+        warmUp();
+        List<CompletableFuture<String>> attempts = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> result = hedger.callAsync(() -> {
+            CompletableFuture<String> attempt = new CompletableFuture<>();
+            attempts.add(attempt);
+            return attempt;
+        });
+        while (attempts.size() < 2) {
+            Thread.sleep(5);
+        }
+        result.cancel(true);
+
+        assertTrue(attempts.get(0).isCancelled());
+        assertTrue(attempts.get(1).isCancelled());
+    }
+
+    /**
+     * Test that a duplicate is skipped, not run on the timer thread, when the hedge executor rejects it.
+     */
+    @Test
+    void testDuplicateIsSkippedWhenExecutorIsSaturated() throws Exception {
+        RequestHedger saturated = new RequestHedger(true, 0.95, 20, TimeUnit.MILLISECONDS, 100, command -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        for (int i = 0; i < 100; i++) {
+            saturated.callAsync(() -> CompletableFuture.completedFuture("bulbasaur"));
+        }
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+
+        CompletableFuture<String> result = saturated.callAsync(() -> {
+            attempts.incrementAndGet();
+            return slow;
+        });
+        while (saturated.hedgesSkipped() == 0) {
+            Thread.sleep(5);
+        }
+        slow.complete("pikachu");
+
+        assertEquals("pikachu", result.get(1, TimeUnit.SECONDS));
+        assertEquals(1, attempts.get());
+        assertEquals(0, saturated.hedgesSent());
+    }
+
+    /**
+     * Test that a blocking call runs its first attempt on the calling thread, and that the duplicate that won
+     * cancels the future of the first attempt.
+     */
+    @Test
+    void testBlockingCallRunsFirstAttemptOnCallingThread() throws Exception {
+        warmUp();
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        AtomicBoolean firstCancelled = new AtomicBoolean();
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        hedger.call(result, attempt -> {
+            threads.add(Thread.currentThread());
+            if (threads.size() > 1) {
+                attempt.complete("pikachu");
+                return;
+            }
+            try {
+                attempt.join();
+            } catch (CancellationException e) {
+                firstCancelled.set(true);
+            }
+        });
+
+        assertEquals("pikachu", result.get(1, TimeUnit.SECONDS));
+        assertSame(caller, threads.get(0));
+        assertTrue(firstCancelled.get());
+        assertEquals(1, hedger.hedgesWon());
+    }
+
+    /**
+     * Test that a disabled hedger makes every call once, without observing it.
+     */
+    @Test
+    void testDisabledHedgerPassesThrough() {
+        RequestHedger disabled = new RequestHedger(false, 0.95, 20, TimeUnit.MILLISECONDS, 100, Runnable::run);
+        for (int i = 0; i < 50; i++) {
+            disabled.callAsync(() -> CompletableFuture.completedFuture("pikachu"));
+        }
+
+        assertEquals(-1, disabled.hedgeDelayNanos());
+    }
+
+    /**
+     * Test that inconsistent settings are rejected.
+     */
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedger(true, 1, 20, TimeUnit.MILLISECONDS, 100, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedger(true, 0.95, 20, TimeUnit.MILLISECONDS, 5, Runnable::run));
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 100; i++) {
+            hedger.callAsync(() -> CompletableFuture.completedFuture("bulbasaur"));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(20), hedger.hedgeDelayNanos());
+    }
+}
@@ -0,0 +1,140 @@
+package com.poke.api.middleware.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SingleFlight} class.
+ */
+class SingleFlightTest {
+
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+    }
+
+    /**
+     * Test that a single caller runs the computation and gets its value.
+     */
+    @Test
+    void testExecuteReturnsComputedValue() {
+        assertEquals("bulbasaur", singleFlight.execute("bulbasaur", () -> "bulbasaur"));
+        assertEquals(0, singleFlight.coalescedCount());
+    }
+
+    /**
+     * Test that concurrent callers for the same key share a single computation.
+     */
+    @Test
+    void testConcurrentCallersShareComputation() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> first = executor.submit(() -> singleFlight.execute("pikachu", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "pikachu";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() -> singleFlight.execute("pikachu", () -> {
+                executions.incrementAndGet();
+                return "other";
+            }));
+            while (singleFlight.coalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("pikachu", first.get(5, TimeUnit.SECONDS));
+            assertEquals("pikachu", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executions.get());
+            assertEquals(1, singleFlight.coalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that an exception thrown by the computation reaches the caller,
+     * and that the next call starts a new computation.
+     */
+    @Test
+    void testExceptionIsPropagatedAndNotRetained() {
+        Exception exception = assertThrows(ApplicationException.class, () -> singleFlight.execute("missingno", () -> {
+            throw new ApplicationException("Pokemon not found");
+        }));
+
+        assertEquals("Pokemon not found", exception.getMessage());
+        assertEquals("missingno", singleFlight.execute("missingno", () -> "missingno"));
+    }
+
+    /**
+     * Test that asynchronous callers for the same key share a single computation until it completes.
+     */
+    @Test
+    void testExecuteAsyncSharesRunningComputation() {
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> computation = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("eevee", () -> {
+            executions.incrementAndGet();
+            return computation;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("eevee", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        assertFalse(first.isDone());
+
+        computation.complete("eevee");
+
+        assertEquals("eevee", first.join());
+        assertEquals("eevee", second.join());
+        assertEquals(1, executions.get());
+        assertEquals(1, singleFlight.coalescedCount());
+        assertEquals("next", singleFlight.executeAsync("eevee", () -> CompletableFuture.completedFuture("next")).join());
+    }
+
+    /**
+     * Test that an asynchronous computation is cancelled only once every caller waiting for it cancelled.
+     */
+    @Test
+    void testExecuteAsyncCancelsComputationOnceEveryCallerCancelled() {
+        CompletableFuture<String> computation = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.executeAsync("eevee", () -> computation);
+        CompletableFuture<String> second = singleFlight.executeAsync("eevee", () -> CompletableFuture.completedFuture("other"));
+
+        first.cancel(true);
+        assertFalse(computation.isCancelled());
+        assertFalse(second.isDone());
+
+        second.cancel(true);
+        assertTrue(computation.isCancelled());
+        assertEquals("next", singleFlight.executeAsync("eevee", () -> CompletableFuture.completedFuture("next")).join());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
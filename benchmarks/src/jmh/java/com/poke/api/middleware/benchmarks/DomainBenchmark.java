@@ -0,0 +1,55 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and the allocations of the {@link Pokemon} domain object on every search.
+ * <p>
+ * Sorting changes the Pokémon it is called on, so {@code sortAbilities} sorts a Pokémon created from the unsorted
+ * abilities on each call; {@code create} measures that creation alone, to be subtracted from it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DomainBenchmark {
+
+    private List<Ability> abilities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        abilities = Fixtures.bulbasaurAbilities();
+    }
+
+    @Benchmark
+    public Pokemon create() {
+        return newPokemon();
+    }
+
+    @Benchmark
+    public Pokemon sortAbilities() {
+        Pokemon pokemon = newPokemon();
+        pokemon.sortAbilities();
+        return pokemon;
+    }
+
+    private Pokemon newPokemon() {
+        return Pokemon.from(
+                1,
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                abilities
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.rest.AbilityResponse;
+import com.poke.api.middleware.infrastructure.rest.PokemonResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Sample data shared by the benchmarks, modelled on real Pokémon API responses.
+ * The raw responses are read from the {@code fixtures} resources, which keep the fields the application ignores,
+ * so deserializing them costs as much as deserializing a live response.
+ */
+final class Fixtures {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates the output of a Bulbasaur search, with the full effect texts of its abilities.
+     *
+     * @return a {@link PokemonOutput} for Bulbasaur
+     */
+    static PokemonOutput bulbasaurOutput() {
+        return new PokemonOutput(
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                List.of(
+                        new AbilityOutput(
+                                34,
+                                "chlorophyll",
+                                "This Pokémon's Speed is doubled during strong sunlight.\n\n"
+                                        + "This bonus does not count as a stat modifier."
+                        ),
+                        new AbilityOutput(
+                                65,
+                                "overgrow",
+                                "When this Pokémon has 1/3 or less of its HP remaining, "
+                                        + "its grass-type moves inflict 1.5× as much regular damage."
+                        )
+                )
+        );
+    }
+
+    /**
+     * Reads the raw Bulbasaur response of the {@code /pokemon/{name}} endpoint.
+     *
+     * @return the JSON body of the response
+     */
+    static String bulbasaurJson() {
+        return read("fixtures/pokemon-bulbasaur.json");
+    }
+
+    /**
+     * Reads the raw responses of the {@code /ability/{id}} endpoint for the abilities of Bulbasaur,
+     * in the order the Pokémon response lists them.
+     *
+     * @return the JSON bodies of the responses
+     */
+    static List<String> bulbasaurAbilitiesJson() {
+        return List.of(
+                read("fixtures/ability-overgrow.json"),
+                read("fixtures/ability-chlorophyll.json")
+        );
+    }
+
+    /**
+     * Deserializes the Bulbasaur response of the {@code /pokemon/{name}} endpoint.
+     *
+     * @return the {@link PokemonResponse} for Bulbasaur
+     */
+    static PokemonResponse bulbasaurResponse() {
+        return parse(bulbasaurJson(), PokemonResponse.class);
+    }
+
+    /**
+     * Deserializes the responses of the {@code /ability/{id}} endpoint for the abilities of Bulbasaur.
+     *
+     * @return the {@link AbilityResponse} list of Bulbasaur, unsorted
+     */
+    static List<AbilityResponse> bulbasaurAbilityResponses() {
+        return bulbasaurAbilitiesJson().stream()
+                                       .map(json -> parse(json, AbilityResponse.class))
+                                       .toList();
+    }
+
+    /**
+     * Creates the abilities of Bulbasaur, in the unsorted order of the API.
+     *
+     * @return the {@link Ability} list of Bulbasaur
+     */
+    static List<Ability> bulbasaurAbilities() {
+        return List.of(
+                Ability.from(
+                        65,
+                        "overgrow",
+                        "When this Pokémon has 1/3 or less of its HP remaining, "
+                                + "its grass-type moves inflict 1.5× as much regular damage."
+                ),
+                Ability.from(
+                        34,
+                        "chlorophyll",
+                        "This Pokémon's Speed is doubled during strong sunlight.\n\n"
+                                + "This bonus does not count as a stat modifier."
+                )
+        );
+    }
+
+    /**
+     * Creates the Bulbasaur domain object, with its abilities sorted as the application returns them.
+     *
+     * @return a {@link Pokemon} for Bulbasaur
+     */
+    static Pokemon bulbasaur() {
+        Pokemon pokemon = Pokemon.from(
+                1,
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                bulbasaurAbilities()
+        );
+        pokemon.sortAbilities();
+        return pokemon;
+    }
+
+    /**
+     * Gets the {@link ObjectMapper} the responses are deserialized with.
+     *
+     * @return an {@link ObjectMapper} ignoring unknown properties, like the one Spring configures for the HTTP clients
+     */
+    static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    private static <T> T parse(String json, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(String resource) {
+        try (InputStream stream = Fixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing fixture " + resource);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.poke.api.middleware.infrastructure.rest.AbilityResponse;
+import com.poke.api.middleware.infrastructure.rest.PokemonResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and the allocations of deserializing the raw API responses, as the HTTP clients do.
+ * Most of their fields are skipped.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    private ObjectReader pokemonReader;
+    private ObjectReader abilityReader;
+    private byte[] pokemonJson;
+    private byte[] abilityJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pokemonReader = Fixtures.objectMapper().readerFor(PokemonResponse.class);
+        abilityReader = Fixtures.objectMapper().readerFor(AbilityResponse.class);
+        pokemonJson = Fixtures.bulbasaurJson().getBytes(StandardCharsets.UTF_8);
+        abilityJson = Fixtures.bulbasaurAbilitiesJson().get(0).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PokemonResponse pokemonResponse() throws IOException {
+        return pokemonReader.readValue(pokemonJson);
+    }
+
+    @Benchmark
+    public AbilityResponse abilityResponse() throws IOException {
+        return abilityReader.readValue(abilityJson);
+    }
+}
@@ -0,0 +1,52 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.rest.AbilityMapper;
+import com.poke.api.middleware.infrastructure.rest.AbilityResponse;
+import com.poke.api.middleware.infrastructure.rest.PokemonMapper;
+import com.poke.api.middleware.infrastructure.rest.PokemonResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and the allocations of mapping the deserialized API responses to domain objects.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private PokemonResponse pokemonResponse;
+    private List<AbilityResponse> abilityResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pokemonResponse = Fixtures.bulbasaurResponse();
+        abilityResponses = Fixtures.bulbasaurAbilityResponses();
+    }
+
+    @Benchmark
+    public Ability mapAbility() {
+        return AbilityMapper.map(abilityResponses.get(0));
+    }
+
+    @Benchmark
+    public List<Ability> mapAbilities() {
+        return AbilityMapper.map(abilityResponses);
+    }
+
+    @Benchmark
+    public Pokemon mapPokemon() {
+        return PokemonMapper.map(pokemonResponse, abilityResponses);
+    }
+}
@@ -0,0 +1,50 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and the allocations of converting the domain objects to the outputs of a search.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OutputBenchmark {
+
+    private Pokemon pokemon;
+    private List<Ability> abilities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pokemon = Fixtures.bulbasaur();
+        abilities = pokemon.getAbilities();
+    }
+
+    @Benchmark
+    public AbilityOutput abilityOutput() {
+        return AbilityOutput.from(abilities.get(0));
+    }
+
+    @Benchmark
+    public List<AbilityOutput> abilityOutputs() {
+        return AbilityOutput.from(abilities);
+    }
+
+    @Benchmark
+    public PokemonOutput pokemonOutput() {
+        return PokemonOutput.from(pokemon);
+    }
+}
@@ -0,0 +1,55 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.poke.api.middleware.infrastructure.cache.CompactRedisSerializer;
+import com.poke.api.middleware.infrastructure.cache.SoftTtlEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the encode and decode time of the Redis value serializers for a cached {@code pokemonCache} entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "compact", "compact-uncompressed"})
+    public String serializer;
+
+    private RedisSerializer<Object> redisSerializer;
+    private SoftTtlEntry entry;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisSerializer = switch (serializer) {
+            case "json" -> new GenericJackson2JsonRedisSerializer();
+            case "compact" -> new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), 128);
+            case "compact-uncompressed" -> new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), 0);
+            default -> throw new IllegalArgumentException("Unknown serializer " + serializer);
+        };
+        entry = new SoftTtlEntry(Fixtures.bulbasaurOutput(), System.currentTimeMillis(), 250, null);
+        encoded = redisSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return redisSerializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,126 @@
+package com.poke.api.middleware.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.server.AbstractServletWebServerFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the request throughput of the embedded web servers on the cache-hit path of a search,
+ * where the response is a pre-rendered JSON body written as is.
+ * Each server is set up like {@code application.yml}: 64 request threads, and on Undertow 4 I/O threads
+ * with 16KB direct buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(32)
+public class WebServerBenchmark {
+    private static final int REQUEST_THREADS = 64;
+
+    @Param({"undertow", "tomcat"})
+    public String server;
+
+    private WebServer webServer;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] body = new ObjectMapper().writeValueAsBytes(Fixtures.bulbasaurOutput());
+        String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+
+        AbstractServletWebServerFactory factory = switch (server) {
+            case "undertow" -> {
+                UndertowServletWebServerFactory undertow = new UndertowServletWebServerFactory(0);
+                undertow.setIoThreads(4);
+                undertow.setWorkerThreads(REQUEST_THREADS);
+                undertow.setBufferSize((int) DataSize.ofKilobytes(16).toBytes());
+                undertow.setUseDirectBuffers(true);
+                yield undertow;
+            }
+            case "tomcat" -> {
+                TomcatServletWebServerFactory tomcat = new TomcatServletWebServerFactory(0);
+                tomcat.addConnectorCustomizers(WebServerBenchmark::setMaxThreads);
+                yield tomcat;
+            }
+            default -> throw new IllegalArgumentException("Unknown server " + server);
+        };
+
+        webServer = factory.getWebServer(servletContext -> servletContext.addServlet("pokemon", new CachedBodyServlet(body, etag))
+                                                                         .addMapping("/api/v1/pokemon"));
+        webServer.start();
+
+        httpClient = HttpClient.newBuilder()
+                               .version(HttpClient.Version.HTTP_1_1)
+                               .build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + webServer.getPort() + "/api/v1/pokemon?name=bulbasaur"))
+                             .GET()
+                             .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        webServer.stop();
+    }
+
+    @Benchmark
+    public int cachedSearch() throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray())
+                         .body()
+                         .length;
+    }
+
+    private static void setMaxThreads(Connector connector) {
+        if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+            protocol.setMaxThreads(REQUEST_THREADS);
+        }
+    }
+
+    /**
+     * Writes the same pre-rendered body to every request, like a hit in the rendered body cache.
+     */
+    private static final class CachedBodyServlet extends HttpServlet {
+        private final byte[] body;
+        private final String etag;
+
+        private CachedBodyServlet(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setContentType("application/json");
+            response.setHeader("ETag", etag);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
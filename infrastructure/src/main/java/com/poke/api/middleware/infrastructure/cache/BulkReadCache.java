@@ -0,0 +1,20 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A {@link Cache} able to read the values of several keys in a single round trip.
+ */
+public interface BulkReadCache extends Cache {
+
+    /**
+     * Gets the values cached for several keys at once.
+     *
+     * @param keys the keys to look up
+     * @return the cached values by key; keys without a cached value are absent
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+}
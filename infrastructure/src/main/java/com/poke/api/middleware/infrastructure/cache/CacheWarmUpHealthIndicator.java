@@ -0,0 +1,54 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports whether enough Pokémon are cached for the application to take traffic.
+ * It is part of the readiness group, so the application stays unready until the {@link CacheWarmer}
+ * cached the configured fraction of the Pokédex, or ended. A warm-up that ended without caching enough Pokémon,
+ * because too many failed or the Pokémon could not be listed, is reported up with the failures in the details,
+ * since waiting longer would not cache more of them. Without a {@link CacheWarmer}, it is always up.
+ */
+public class CacheWarmUpHealthIndicator implements HealthIndicator {
+    private final ObjectProvider<CacheWarmer> cacheWarmer;
+    private final double readyFraction;
+
+    /**
+     * Constructs a new {@link CacheWarmUpHealthIndicator}.
+     *
+     * @param cacheWarmer   the provider of the {@link CacheWarmer}, which is absent when the warm-up is disabled
+     * @param readyFraction the fraction of the Pokémon that must be cached to report up
+     */
+    public CacheWarmUpHealthIndicator(
+            ObjectProvider<CacheWarmer> cacheWarmer,
+            double readyFraction
+    ) {
+        this.cacheWarmer = cacheWarmer;
+        this.readyFraction = readyFraction;
+    }
+
+    @Override
+    public Health health() {
+        CacheWarmer warmer = cacheWarmer.getIfAvailable();
+        if (warmer == null) {
+            return Health.up()
+                         .withDetail("enabled", false)
+                         .build();
+        }
+
+        boolean ready = warmer.isFinished() || warmer.warmFraction() >= readyFraction;
+        Health.Builder health = ready ? Health.up() : Health.outOfService();
+        health.withDetail("enabled", true)
+              .withDetail("total", warmer.total())
+              .withDetail("warm", warmer.warm())
+              .withDetail("failed", warmer.failed())
+              .withDetail("failedFraction", warmer.failedFraction())
+              .withDetail("finished", warmer.isFinished());
+        if (warmer.error() != null) {
+            health.withDetail("error", warmer.error());
+        }
+        return health.build();
+    }
+}
@@ -0,0 +1,292 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.infrastructure.configuration.WarmUpProperties;
+import com.poke.api.middleware.infrastructure.rest.AbilityResponse;
+import com.poke.api.middleware.infrastructure.rest.EffectEntryResponse;
+import com.poke.api.middleware.infrastructure.rest.PokemonCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Fills the {@code pokemonCache} and the {@code abilityCache} with the whole Pokédex once the application started.
+ * <p>
+ * Without a dump file, the Pokémon are listed from the API and searched through {@link CachedPokemonSearch},
+ * at most {@code concurrency} at a time and {@code ratePerSecond} per second, which also caches every ability
+ * they have. Pokémon that are already cached are skipped, checking them a hundred at a time with a single read
+ * of the cache. Listing the Pokémon is retried with an exponential backoff, up to {@code listingAttempts} times.
+ * With a dump file, a JSON array of search results, both caches are filled from it without calling the API.
+ * <p>
+ * The warm-up runs on its own thread, so startup does not wait for it; {@link CacheWarmUpHealthIndicator}
+ * keeps the application out of the readiness group until enough Pokémon are cached, or the warm-up ended,
+ * even if it failed.
+ */
+public class CacheWarmer {
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmer.class);
+    private static final String ABILITY_CACHE = "abilityCache";
+    private static final int CACHED_CHECK_BATCH_SIZE = 100;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger warm = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final CachedPokemonSearch pokemonSearch;
+    private final PokemonCatalog catalog;
+    private final Cache pokemonCache;
+    private final Cache abilityCache;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final WarmUpProperties properties;
+    private volatile boolean finished;
+    private volatile String error;
+
+    /**
+     * Constructs a new {@link CacheWarmer}.
+     *
+     * @param pokemonSearch the {@link CachedPokemonSearch} used to search and cache each Pokémon
+     * @param catalog       the {@link PokemonCatalog} listing the Pokémon known by the API
+     * @param cacheManager  the {@link CacheManager} providing the caches to fill
+     * @param objectMapper  the {@link ObjectMapper} used to read the dump file
+     * @param executor      the bounded {@link Executor} running the searches
+     * @param properties    the {@link WarmUpProperties} holding the warm-up settings
+     */
+    public CacheWarmer(
+            CachedPokemonSearch pokemonSearch,
+            PokemonCatalog catalog,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            Executor executor,
+            WarmUpProperties properties
+    ) {
+        this.pokemonSearch = pokemonSearch;
+        this.catalog = catalog;
+        this.pokemonCache = cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE);
+        this.abilityCache = cacheManager.getCache(ABILITY_CACHE);
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts the warm-up in the background once the application started.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::warmUp, "cache-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Gets the fraction of the listed Pokémon that are cached.
+     *
+     * @return a value between {@code 0} and {@code 1}; {@code 0} until the Pokémon are listed
+     */
+    public double warmFraction() {
+        int listed = total.get();
+        return listed > 0 ? (double) warm.get() / listed : 0;
+    }
+
+    /**
+     * Gets the number of Pokémon listed for the warm-up.
+     *
+     * @return the number of listed Pokémon
+     */
+    public int total() {
+        return total.get();
+    }
+
+    /**
+     * Gets the number of listed Pokémon that are cached.
+     *
+     * @return the number of cached Pokémon
+     */
+    public int warm() {
+        return warm.get();
+    }
+
+    /**
+     * Gets the number of listed Pokémon that could not be cached.
+     *
+     * @return the number of failed Pokémon
+     */
+    public int failed() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the fraction of the Pokémon processed so far that could not be cached.
+     * Listed Pokémon that were not reached yet, or ever when the warm-up stopped, are not counted.
+     *
+     * @return a value between {@code 0} and {@code 1}; {@code 0} until a Pokémon failed
+     */
+    public double failedFraction() {
+        int failures = failed.get();
+        int attempted = warm.get() + failures;
+        return attempted > 0 ? (double) failures / attempted : 0;
+    }
+
+    /**
+     * Gets the reason the warm-up stopped before processing every Pokémon, if it did.
+     *
+     * @return the error message, or {@code null} if the warm-up did not stop on an error
+     */
+    public String error() {
+        return error;
+    }
+
+    /**
+     * Tells whether every listed Pokémon was processed.
+     *
+     * @return {@code true} once the warm-up ended
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Runs the warm-up on the calling thread.
+     */
+    void warmUp() {
+        long start = System.nanoTime();
+        LOG.info("[step:cache-warm-up] Warming up the caches from {}",
+                 hasDumpFile() ? properties.dumpFile() : "the Pokémon API");
+        try {
+            if (hasDumpFile()) {
+                loadDump(Path.of(properties.dumpFile()));
+            } else {
+                searchCatalog();
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            LOG.error("[step:cache-warm-up] Warm-up stopped: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finished = true;
+            LOG.info("[step:cache-warm-up] Warm-up ended in {} ms: {} of {} Pokémon cached, {} failed",
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), warm.get(), total.get(), failed.get());
+        }
+    }
+
+    private void searchCatalog() throws InterruptedException {
+        List<String> names = listNames();
+        total.set(names.size());
+
+        CountDownLatch done = new CountDownLatch(names.size());
+        long interval = TimeUnit.SECONDS.toNanos(1) / Math.max(1, properties.ratePerSecond());
+        long next = System.nanoTime();
+        for (int from = 0; from < names.size(); from += CACHED_CHECK_BATCH_SIZE) {
+            List<String> batch = names.subList(from, Math.min(names.size(), from + CACHED_CHECK_BATCH_SIZE));
+            Set<Object> cached = cachedKeys(batch);
+            for (String name : batch) {
+                if (cached.contains(CachedPokemonSearch.key(name))) {
+                    warm.incrementAndGet();
+                    done.countDown();
+                    continue;
+                }
+
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                next = Math.max(next, System.nanoTime() - interval) + interval;
+
+                executor.execute(() -> {
+                    try {
+                        pokemonSearch.search(name);
+                        warm.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                        LOG.debug("[step:cache-warm-up] Could not warm up {}: {}", name, e.getMessage());
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+        done.await();
+    }
+
+    /**
+     * Gets the keys of the given Pokémon that are already cached, reading them in a single round trip
+     * when the cache supports it.
+     */
+    private Set<Object> cachedKeys(List<String> names) {
+        List<String> keys = names.stream()
+                                 .map(CachedPokemonSearch::key)
+                                 .distinct()
+                                 .toList();
+        if (pokemonCache instanceof BulkReadCache bulkReadCache) {
+            return bulkReadCache.getAll(keys).keySet();
+        }
+        return keys.stream()
+                   .filter(key -> pokemonCache.get(key) != null)
+                   .collect(Collectors.toSet());
+    }
+
+    private List<String> listNames() throws InterruptedException {
+        long backoff = properties.listingBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return catalog.pokemonNames(properties.limit());
+            } catch (RuntimeException e) {
+                if (attempt >= properties.listingAttempts()) {
+                    throw e;
+                }
+                LOG.warn("[step:cache-warm-up] Could not list the Pokémon (attempt {} of {}), retrying in {} ms: {}",
+                         attempt, properties.listingAttempts(), TimeUnit.NANOSECONDS.toMillis(backoff), e.getMessage());
+                TimeUnit.NANOSECONDS.sleep(backoff);
+                backoff *= 2;
+            }
+        }
+    }
+
+    private void loadDump(Path dumpFile) {
+        List<PokemonOutput> outputs;
+        try {
+            outputs = objectMapper.readValue(dumpFile.toFile(), new TypeReference<List<PokemonOutput>>() {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + dumpFile, e);
+        }
+        total.set(outputs.size());
+
+        for (PokemonOutput output : outputs) {
+            try {
+                for (AbilityOutput ability : output.abilities()) {
+                    abilityCache.put(
+                            catalog.abilityUrl(ability.id()),
+                            new AbilityResponse(ability.id(), ability.name(), List.of(new EffectEntryResponse(ability.effect())))
+                    );
+                }
+                pokemonCache.put(output.name(), output);
+                warm.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                LOG.debug("[step:cache-warm-up] Could not warm up {}: {}", output.name(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean hasDumpFile() {
+        return properties.dumpFile() != null && !properties.dumpFile().isBlank();
+    }
+}
@@ -0,0 +1,268 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.poke.api.middleware.application.KnownPokemonNames;
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.application.PokemonInput;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.application.PokemonService;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import com.poke.api.middleware.infrastructure.tracing.Spans;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Searches Pokémon through the {@code pokemonCache}, calling the {@link PokemonService} only on cache misses.
+ * Single searches load misses on the calling thread, or without holding any thread when searched asynchronously;
+ * batch searches read every cached name in one bulk read and search the remaining names concurrently.
+ * Names that cannot be the name of a Pokémon are rejected by the {@link PokemonService} before any cache lookup.
+ * The name of every Pokémon found is added to the {@link NameIndex} and the {@link KnownPokemonNames},
+ * so both learn new names as they are searched, and every name the API does not know is remembered for a while
+ * by the {@link NegativeLookupCache}.
+ */
+@Component
+public class CachedPokemonSearch {
+    /**
+     * The name of the cache holding search results, keyed by the normalized name, as given by {@link #key(String)}.
+     */
+    public static final String POKEMON_CACHE = "pokemonCache";
+
+    private final PokemonService pokemonService;
+    private final Cache cache;
+    private final Executor batchExecutor;
+    private final Executor writeExecutor;
+    private final NameIndex nameIndex;
+    private final KnownPokemonNames knownNames;
+    private final NegativeLookupCache negativeCache;
+    private final MeterRegistry meterRegistry;
+    private final Timer serviceTimer;
+    private final Tracer tracer;
+
+    /**
+     * Constructs a new {@link CachedPokemonSearch}.
+     *
+     * @param pokemonService the {@link PokemonService} used on cache misses
+     * @param cacheManager   the {@link CacheManager} providing the {@code pokemonCache}
+     * @param batchExecutor  the {@link Executor} used to search the misses of a batch concurrently
+     * @param writeExecutor  the {@link Executor} storing the results of asynchronous searches in the cache
+     * @param nameIndex      the {@link NameIndex} learning the names of the Pokémon found
+     * @param knownNames     the {@link KnownPokemonNames} learning the names of the Pokémon found
+     * @param negativeCache  the {@link NegativeLookupCache} remembering the names the API does not know
+     * @param meterRegistry  the {@link MeterRegistry} on which the service stage is timed
+     * @param tracer         the provider of the {@link Tracer} creating the cache and service spans, if tracing is enabled
+     */
+    public CachedPokemonSearch(
+            PokemonService pokemonService,
+            CacheManager cacheManager,
+            @Qualifier("batchExecutor") Executor batchExecutor,
+            @Qualifier("cacheWriteExecutor") Executor writeExecutor,
+            NameIndex nameIndex,
+            KnownPokemonNames knownNames,
+            NegativeLookupCache negativeCache,
+            MeterRegistry meterRegistry,
+            ObjectProvider<Tracer> tracer
+    ) {
+        this.pokemonService = pokemonService;
+        this.cache = cacheManager.getCache(POKEMON_CACHE);
+        this.batchExecutor = batchExecutor;
+        this.writeExecutor = writeExecutor;
+        this.nameIndex = nameIndex;
+        this.knownNames = knownNames;
+        this.negativeCache = negativeCache;
+        this.meterRegistry = meterRegistry;
+        this.serviceTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.SERVICE);
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    /**
+     * Searches a Pokémon by name, returning the cached result when available.
+     * A name that cannot exist, or that the API recently did not know, fails right away,
+     * without reaching the cache or the API.
+     *
+     * @param name the name of the Pokémon to search for
+     * @return a {@link PokemonOutput} representing the Pokémon data
+     * @throws RuntimeException the exception thrown by the {@link PokemonService} on a cache miss
+     */
+    public PokemonOutput search(String name) {
+        pokemonService.requireKnown(PokemonInput.with(name));
+        negativeCache.throwIfNotFound(name);
+        String key = key(name);
+        try {
+            PokemonOutput output = Spans.inSpan(tracer, "pokemon.cache.get", key, () -> cache.get(key, loader(key)));
+            if (output != null) {
+                remember(output);
+            }
+            return output;
+        } catch (Cache.ValueRetrievalException e) {
+            negativeCache.recordFailure(name, e.getCause());
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Searches a Pokémon by name without waiting for the {@link PokemonService} on a cache miss.
+     * Cached results are returned as by {@link #search(String)}; a missing result is searched asynchronously
+     * and stored in the cache in the background once found.
+     *
+     * @param name the name of the Pokémon to search for
+     * @return a {@link CompletableFuture} completed with the {@link PokemonOutput} representing the Pokémon data
+     */
+    public CompletableFuture<PokemonOutput> searchAsync(String name) {
+        try {
+            pokemonService.requireKnown(PokemonInput.with(name));
+            negativeCache.throwIfNotFound(name);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String key = key(name);
+        PokemonOutput cached = Spans.inSpan(tracer, "pokemon.cache.get", key, () -> cachedValue(key));
+        if (cached != null) {
+            remember(cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<PokemonOutput> result = Spans.inSpanAsync(tracer, "pokemon.service.search", name,
+                                                                    () -> pokemonService.searchAsync(PokemonInput.with(name)));
+        result.whenComplete((output, failure) -> {
+            sample.stop(serviceTimer);
+            if (failure != null) {
+                negativeCache.recordFailure(name, failure);
+            }
+        });
+        result.thenAcceptAsync(
+                output -> {
+                    Spans.inSpan(tracer, "pokemon.cache.put", key, () -> {
+                        cache.put(key, output);
+                        return null;
+                    });
+                    remember(output);
+                },
+                writeExecutor
+        );
+        return result;
+    }
+
+    /**
+     * Searches several Pokémon at once.
+     * Names that cannot exist fail right away, the cached names are read in a single bulk read,
+     * and the remaining names are searched concurrently;
+     * each result completes on its own, so a failed name does not affect the others.
+     *
+     * @param names the names of the Pokémon to search for; duplicates are searched once
+     * @return the result of each distinct name, in request order
+     */
+    public Map<String, CompletableFuture<PokemonOutput>> searchAll(Collection<String> names) {
+        Collection<String> distinctNames = new LinkedHashSet<>(names);
+        Map<String, RuntimeException> rejected = new LinkedHashMap<>();
+        for (String name : distinctNames) {
+            try {
+                pokemonService.requireKnown(PokemonInput.with(name));
+            } catch (RuntimeException e) {
+                rejected.put(name, e);
+            }
+        }
+
+        List<String> lookups = distinctNames.stream()
+                                            .filter(name -> !rejected.containsKey(name))
+                                            .map(CachedPokemonSearch::key)
+                                            .distinct()
+                                            .toList();
+        Map<Object, Object> cached = cache instanceof BulkReadCache bulkReadCache && !lookups.isEmpty()
+                                     ? Spans.inSpan(tracer, "pokemon.cache.get-all", String.join(",", lookups),
+                                                    () -> bulkReadCache.getAll(lookups))
+                                     : Map.of();
+
+        Map<String, CompletableFuture<PokemonOutput>> results = new LinkedHashMap<>();
+        for (String name : distinctNames) {
+            if (rejected.containsKey(name)) {
+                results.put(name, CompletableFuture.failedFuture(rejected.get(name)));
+            } else if (cached.get(key(name)) instanceof PokemonOutput output) {
+                results.put(name, CompletableFuture.completedFuture(output));
+            } else {
+                results.put(name, CompletableFuture.supplyAsync(() -> search(name), batchExecutor));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Starts a background refresh of the cached result of a name when it is due, as a search of the name would.
+     * Callers serving something derived from the cached result call it on their own hits, so the result stays fresh.
+     * Nothing is loaded when the result is not cached.
+     *
+     * @param name the name of the Pokémon
+     */
+    public void refreshIfDue(String name) {
+        if (cache instanceof SoftTtlCache softTtlCache) {
+            String key = key(name);
+            softTtlCache.getIfPresent(key, loader(key));
+        }
+    }
+
+    /**
+     * Gets the content hash stored with the cached result of a name, starting a background refresh when it is due.
+     * The hash is the MD5 of the JSON rendering of the result, so callers can compare it with an entity tag
+     * without reading or rendering the result. Nothing is loaded when the result is not cached.
+     *
+     * @param name the name of the Pokémon
+     * @return the content hash, or {@code null} if the result is not cached or was stored without a hash
+     */
+    public String contentHash(String name) {
+        if (!(cache instanceof SoftTtlCache softTtlCache)) {
+            return null;
+        }
+
+        String key = key(name);
+        SoftTtlEntry entry = Spans.inSpan(tracer, "pokemon.cache.get", key,
+                                          () -> softTtlCache.getEntryIfPresent(key, loader(key)));
+        return entry != null ? entry.contentHash() : null;
+    }
+
+    /**
+     * Gets the key of the cached result of a name, so that every spelling of a name shares one entry.
+     *
+     * @param name the requested name
+     * @return the normalized name
+     */
+    public static String key(String name) {
+        return PokemonInput.with(name).normalizedName();
+    }
+
+    /**
+     * Reads the cached result of a name once, starting a background refresh when it is due, without loading a miss.
+     */
+    private PokemonOutput cachedValue(String name) {
+        Cache.ValueWrapper wrapper = cache instanceof SoftTtlCache softTtlCache
+                                     ? softTtlCache.getIfPresent(name, loader(name))
+                                     : cache.get(name);
+        return wrapper != null ? (PokemonOutput) wrapper.get() : null;
+    }
+
+    private Callable<PokemonOutput> loader(String name) {
+        return () -> Spans.inSpan(tracer, "pokemon.service.search", name,
+                                  () -> serviceTimer.record(() -> pokemonService.search(PokemonInput.with(name))));
+    }
+
+    private void remember(PokemonOutput output) {
+        nameIndex.add(output.name());
+        knownNames.add(output.name());
+    }
+}
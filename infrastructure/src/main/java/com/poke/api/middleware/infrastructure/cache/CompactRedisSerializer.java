@@ -0,0 +1,305 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.infrastructure.rest.AbilityResponse;
+import com.poke.api.middleware.infrastructure.rest.EffectEntryResponse;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link RedisSerializer} that stores the cached records in a compact binary format.
+ * <p>
+ * Every value starts with a version byte and a type byte, followed by the fields of the record in declaration order.
+ * Integers are written as variable-length integers and strings as their UTF-8 bytes prefixed by their length.
+ * Strings at least as long as the compression threshold, such as ability effects, are compressed with LZ4
+ * when that makes them smaller.
+ * <p>
+ * Values of any other type are delegated to a fallback serializer, so the serializer can back any cache.
+ * Soft TTL entries written before they carried a content hash are still read, as entries without a hash.
+ * <p>
+ * Reading checks every declared length against the bytes actually present, so a truncated or corrupt value
+ * fails with a {@link SerializationException} rather than an unchecked error.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    /**
+     * The version of the binary format written by this serializer.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte FALLBACK = 0;
+    private static final byte POKEMON_OUTPUT = 1;
+    private static final byte ABILITY_OUTPUT = 2;
+    private static final byte ABILITY_RESPONSE = 3;
+    private static final byte SOFT_TTL_ENTRY = 4;
+    private static final byte HASHED_SOFT_TTL_ENTRY = 5;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+    private static final int MAX_LZ4_RATIO = 255;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+
+    /**
+     * Constructs a new {@link CompactRedisSerializer}.
+     *
+     * @param fallback             the {@link RedisSerializer} used for values of unsupported types
+     * @param compressionThreshold the minimum size, in bytes, of a string to be compressed; {@code 0} disables compression
+     */
+    public CompactRedisSerializer(
+            RedisSerializer<Object> fallback,
+            int compressionThreshold
+    ) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        Output output = new Output();
+        output.write(VERSION);
+        writeValue(output, value);
+        return output.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        ByteBuffer input = ByteBuffer.wrap(bytes);
+        byte version = input.get();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported compact format version " + version);
+        }
+
+        try {
+            return readValue(input);
+        } catch (BufferUnderflowException e) {
+            throw new SerializationException("Truncated compact value", e);
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Corrupt compressed string in compact value", e);
+        }
+    }
+
+    private void writeValue(Output output, Object value) {
+        if (value instanceof PokemonOutput pokemon) {
+            output.write(POKEMON_OUTPUT);
+            writeString(output, pokemon.name());
+            writeString(output, pokemon.sprite());
+            output.writeVarInt(pokemon.abilities().size());
+            pokemon.abilities().forEach(ability -> writeAbility(output, ability));
+        } else if (value instanceof AbilityOutput ability) {
+            output.write(ABILITY_OUTPUT);
+            writeAbility(output, ability);
+        } else if (value instanceof AbilityResponse ability) {
+            output.write(ABILITY_RESPONSE);
+            output.writeVarInt(ability.id());
+            writeString(output, ability.name());
+            List<EffectEntryResponse> effects = ability.effect_entries() != null ? ability.effect_entries() : List.of();
+            output.writeVarInt(effects.size());
+            effects.forEach(effect -> writeString(output, effect.effect()));
+        } else if (value instanceof SoftTtlEntry entry) {
+            output.write(HASHED_SOFT_TTL_ENTRY);
+            output.writeLong(entry.createdAt());
+            output.writeVarInt(entry.computeMillis());
+            writeString(output, entry.contentHash());
+            writeValue(output, entry.value());
+        } else {
+            output.write(FALLBACK);
+            output.write(fallback.serialize(value));
+        }
+    }
+
+    private Object readValue(ByteBuffer input) {
+        byte type = input.get();
+        return switch (type) {
+            case POKEMON_OUTPUT -> {
+                String name = readString(input);
+                String sprite = readString(input);
+                int count = checkedLength(readVarInt(input), input.remaining());
+                List<AbilityOutput> abilities = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    abilities.add(readAbility(input));
+                }
+                yield new PokemonOutput(name, sprite, List.copyOf(abilities));
+            }
+            case ABILITY_OUTPUT -> readAbility(input);
+            case ABILITY_RESPONSE -> {
+                int id = (int) readVarInt(input);
+                String name = readString(input);
+                int count = checkedLength(readVarInt(input), input.remaining());
+                List<EffectEntryResponse> effects = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    effects.add(new EffectEntryResponse(readString(input)));
+                }
+                yield new AbilityResponse(id, name, effects);
+            }
+            case SOFT_TTL_ENTRY -> {
+                long createdAt = input.getLong();
+                long computeMillis = readVarInt(input);
+                yield new SoftTtlEntry(readValue(input), createdAt, computeMillis, null);
+            }
+            case HASHED_SOFT_TTL_ENTRY -> {
+                long createdAt = input.getLong();
+                long computeMillis = readVarInt(input);
+                String contentHash = readString(input);
+                yield new SoftTtlEntry(readValue(input), createdAt, computeMillis, contentHash);
+            }
+            case FALLBACK -> {
+                byte[] remaining = new byte[input.remaining()];
+                input.get(remaining);
+                yield fallback.deserialize(remaining);
+            }
+            default -> throw new SerializationException("Unknown compact value type " + type);
+        };
+    }
+
+    private void writeAbility(Output output, AbilityOutput ability) {
+        output.writeVarInt(ability.id());
+        writeString(output, ability.name());
+        writeString(output, ability.effect());
+    }
+
+    private AbilityOutput readAbility(ByteBuffer input) {
+        int id = (int) readVarInt(input);
+        String name = readString(input);
+        String effect = readString(input);
+        return new AbilityOutput(id, name, effect);
+    }
+
+    /**
+     * Writes a string as a header followed by its bytes.
+     * The header is {@code 0} for {@code null}, otherwise {@code (length + 1) << 1} with the lowest bit set
+     * when the bytes are LZ4 compressed, in which case the uncompressed length follows the header.
+     */
+    private void writeString(Output output, String value) {
+        if (value == null) {
+            output.writeVarInt(0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (compressionThreshold > 0 && bytes.length >= compressionThreshold) {
+            byte[] compressed = compressor.compress(bytes);
+            if (compressed.length < bytes.length) {
+                output.writeVarInt(((long) (compressed.length + 1) << 1) | 1);
+                output.writeVarInt(bytes.length);
+                output.write(compressed);
+                return;
+            }
+        }
+
+        output.writeVarInt((long) (bytes.length + 1) << 1);
+        output.write(bytes);
+    }
+
+    private String readString(ByteBuffer input) {
+        long header = readVarInt(input);
+        if (header == 0) {
+            return null;
+        }
+
+        int length = checkedLength((header >>> 1) - 1, input.remaining());
+        if ((header & 1) == 0) {
+            String value = new String(input.array(), input.arrayOffset() + input.position(), length, StandardCharsets.UTF_8);
+            input.position(input.position() + length);
+            return value;
+        }
+
+        long originalLength = readVarInt(input);
+        length = checkedLength(length, input.remaining());
+        // LZ4 cannot expand its input more than 255 times, so a larger declared length is corrupt.
+        if (originalLength < 0 || originalLength > (long) length * MAX_LZ4_RATIO + 16) {
+            throw new SerializationException("Invalid uncompressed string length " + originalLength);
+        }
+        byte[] decompressed = new byte[(int) originalLength];
+        int decompressedLength = decompressor.decompress(
+                input.array(),
+                input.arrayOffset() + input.position(),
+                length,
+                decompressed,
+                0
+        );
+        if (decompressedLength != originalLength) {
+            throw new SerializationException("Compressed string decompressed to " + decompressedLength
+                                             + " bytes instead of " + originalLength);
+        }
+        input.position(input.position() + length);
+        return new String(decompressed, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks a declared length, of a string in bytes or of a list in elements of at least one byte,
+     * against the bytes left in the value.
+     */
+    private static int checkedLength(long length, int remaining) {
+        if (length < 0 || length > remaining) {
+            throw new SerializationException("Truncated compact value: " + length
+                                             + " bytes declared with " + remaining + " bytes left");
+        }
+        return (int) length;
+    }
+
+    private static long readVarInt(ByteBuffer input) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (shift > 63) {
+                throw new SerializationException("Malformed variable-length integer");
+            }
+            current = input.get();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * A growable byte buffer with helpers for the primitives of the compact format.
+     */
+    private static final class Output extends ByteArrayOutputStream {
+
+        private Output() {
+            super(256);
+        }
+
+        private void writeVarInt(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.DigestUtils;
+
+import java.util.function.Function;
+
+/**
+ * Hashes cached values as the MD5 of their JSON rendering.
+ * Given the {@link ObjectMapper} that renders the search responses, the hash is the one their entity tag is made of,
+ * so a conditional request can be answered from the hash stored with the cached value, without rendering it.
+ */
+public class JsonContentHasher implements Function<Object, String> {
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@link JsonContentHasher}.
+     *
+     * @param objectMapper the {@link ObjectMapper} rendering the values
+     */
+    public JsonContentHasher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String apply(Object value) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not hash " + value, e);
+        }
+    }
+}
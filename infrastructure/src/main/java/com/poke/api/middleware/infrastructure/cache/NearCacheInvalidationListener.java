@@ -0,0 +1,36 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+/**
+ * Listener told by the {@link TwoTierCacheManager} whenever an entry of a {@link TwoTierCache} changes,
+ * whether the change happened on this node or was announced by another one.
+ * It lets other in-process caches derived from a two-tier cache drop what they derived from an outdated entry.
+ */
+public interface NearCacheInvalidationListener {
+    /**
+     * Called when an entry was evicted, or written on another node.
+     *
+     * @param cacheName the name of the cache holding the entry
+     * @param key       the string form of the entry key
+     */
+    void onEvict(String cacheName, String key);
+
+    /**
+     * Called when an entry was written on this node, with the value written; other nodes are only told
+     * through {@link #onEvict(String, String)}. Listeners deriving something from the value can keep what
+     * they derived from the same value. By default the entry is treated as evicted.
+     *
+     * @param cacheName the name of the cache holding the entry
+     * @param key       the string form of the entry key
+     * @param value     the value written, as stored by the cache
+     */
+    default void onPut(String cacheName, String key, Object value) {
+        onEvict(cacheName, key);
+    }
+
+    /**
+     * Called when a cache was cleared.
+     *
+     * @param cacheName the name of the cleared cache
+     */
+    void onClear(String cacheName);
+}
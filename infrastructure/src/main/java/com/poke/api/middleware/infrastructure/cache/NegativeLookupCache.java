@@ -0,0 +1,99 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poke.api.middleware.application.PokemonInput;
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * In-process cache of the names the API answered with {@code 404 Not Found}, keyed by the normalized name,
+ * so that every spelling of a name the API does not know is answered from the same entry.
+ * Repeated searches of a misspelled or bogus name are answered from it, without reaching Redis or the API,
+ * until the entry expires. Its short time-to-live and bounded size keep a flood of random names from
+ * holding much memory or hiding a Pokémon added to the API for long.
+ */
+@Component
+public class NegativeLookupCache {
+    private final Cache<String, NotFoundResponse> notFound;
+
+    /**
+     * Constructs a new {@link NegativeLookupCache}.
+     *
+     * @param cachingProperties the {@link CachingProperties} holding the negative cache settings
+     * @param meterRegistry     the {@link MeterRegistry} on which the cache metrics are registered
+     */
+    public NegativeLookupCache(
+            CachingProperties cachingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.notFound = Caffeine.newBuilder()
+                                .maximumSize(cachingProperties.negative().maximumSize())
+                                .expireAfterWrite(cachingProperties.negative().ttl())
+                                .recordStats()
+                                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, notFound, "pokemonCache.negative");
+    }
+
+    /**
+     * Throws the {@code 404 Not Found} the API answered for a name, if it is remembered.
+     * A new exception is thrown each time, carrying the status text, headers and body of the API response.
+     *
+     * @param name the requested name
+     * @throws HttpClientErrorException if the API recently answered the name with {@code 404 Not Found}
+     */
+    public void throwIfNotFound(String name) {
+        NotFoundResponse cached = notFound.getIfPresent(key(name));
+        if (cached != null) {
+            throw HttpClientErrorException.create(
+                    HttpStatus.NOT_FOUND,
+                    cached.statusText(),
+                    cached.headers(),
+                    cached.body(),
+                    null
+            );
+        }
+    }
+
+    /**
+     * Remembers a name when a search failed because the API does not know it.
+     *
+     * @param name    the requested name
+     * @param failure the exception the search failed with, possibly wrapped in a {@link CompletionException};
+     *                other failures are ignored
+     */
+    public void recordFailure(String name, Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof HttpClientErrorException exception
+                && exception.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+            notFound.put(key(name), new NotFoundResponse(
+                    exception.getStatusText(),
+                    exception.getResponseHeaders(),
+                    exception.getResponseBodyAsByteArray()
+            ));
+        }
+    }
+
+    private static String key(String name) {
+        return PokemonInput.with(name).normalizedName();
+    }
+
+    /**
+     * The parts of a {@code 404 Not Found} answer needed to throw it again, without the stack trace of the original.
+     */
+    private record NotFoundResponse(
+            String statusText,
+            HttpHeaders headers,
+            byte[] body
+    ) {
+    }
+}
@@ -0,0 +1,268 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * A {@link Cache} decorator that serves entries past their soft time-to-live while refreshing them in the background.
+ * Values are stored as {@link SoftTtlEntry} records, so the decorated cache keeps its own, longer, hard time-to-live.
+ * <p>
+ * A refresh is also started before the soft time-to-live ends, with a probability that grows as the end gets closer
+ * and as the value gets more expensive to compute (the XFetch algorithm). This spreads the refreshes of hot entries
+ * over time instead of letting them all expire at once. Only one refresh per key runs at a time.
+ * <p>
+ * When given a content hasher, the cache stores the hash of each value next to it, so callers can tell
+ * whether a value changed without reading it whole.
+ * <p>
+ * Refreshes need the value loader, so they only happen on {@link #get(Object, Callable)},
+ * which is what {@link CachedPokemonSearch} and {@code @Cacheable(sync = true)} call,
+ * and on {@link #getIfPresent(Object, Callable)}, which {@link CachedPokemonSearch} calls when a miss must not be loaded.
+ */
+public class SoftTtlCache implements BulkReadCache {
+    private static final Logger LOG = LoggerFactory.getLogger(SoftTtlCache.class);
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final Cache delegate;
+    private final Executor refreshExecutor;
+    private final Duration softTtl;
+    private final double beta;
+    private final Clock clock;
+    private final Function<Object, String> contentHasher;
+
+    /**
+     * Constructs a new {@link SoftTtlCache}.
+     *
+     * @param delegate        the {@link Cache} holding the entries
+     * @param refreshExecutor the {@link Executor} running background refreshes
+     * @param softTtl         how long an entry is served before it gets refreshed
+     * @param beta            how eagerly entries are refreshed before their soft time-to-live ends; {@code 0} disables it
+     * @param clock           the {@link Clock} used to read the current time
+     * @param contentHasher   computes the hash stored with each value, or {@code null} to store no hash
+     */
+    public SoftTtlCache(
+            Cache delegate,
+            Executor refreshExecutor,
+            Duration softTtl,
+            double beta,
+            Clock clock,
+            Function<Object, String> contentHasher
+    ) {
+        this.delegate = delegate;
+        this.refreshExecutor = refreshExecutor;
+        this.softTtl = softTtl;
+        this.beta = beta;
+        this.clock = clock;
+        this.contentHasher = contentHasher;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    /**
+     * Gets the decorated cache.
+     *
+     * @return the {@link Cache} holding the entries
+     */
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(wrapper.get()));
+    }
+
+    /**
+     * Gets the values cached for several keys at once, including values past their soft time-to-live.
+     * When the decorated cache cannot read in bulk, the keys are read one by one.
+     */
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        if (delegate instanceof BulkReadCache bulkReadCache) {
+            bulkReadCache.getAll(keys)
+                         .forEach((key, value) -> values.put(key, unwrap(value)));
+            return values;
+        }
+
+        for (Object key : keys) {
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                values.put(key, wrapper.get());
+            }
+        }
+        return values;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value
+            );
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns the cached value, even past its soft time-to-live, starting a background refresh when it is due.
+     * The value is loaded on the calling thread only when the decorated cache holds nothing for the key.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = getIfPresent(key, valueLoader);
+        if (wrapper == null) {
+            return load(key, valueLoader);
+        }
+        return (T) wrapper.get();
+    }
+
+    /**
+     * Returns the cached value, even past its soft time-to-live, starting a background refresh when it is due,
+     * as {@link #get(Object, Callable)} does, but without loading anything when the decorated cache holds nothing for the key.
+     *
+     * @param key         the key of the entry
+     * @param valueLoader the loader used if the entry gets refreshed
+     * @return the {@link ValueWrapper} of the cached value, or {@code null} if nothing is cached for the key
+     */
+    public ValueWrapper getIfPresent(Object key, Callable<?> valueLoader) {
+        SoftTtlEntry entry = getEntryIfPresent(key, valueLoader);
+        return entry != null ? new SimpleValueWrapper(entry.value()) : null;
+    }
+
+    /**
+     * Returns the cached entry, with its metadata, as {@link #getIfPresent(Object, Callable)} returns its value.
+     * A value stored without metadata is returned in an entry without a content hash, and refreshed.
+     *
+     * @param key         the key of the entry
+     * @param valueLoader the loader used if the entry gets refreshed
+     * @return the cached {@link SoftTtlEntry}, or {@code null} if nothing is cached for the key
+     */
+    public SoftTtlEntry getEntryIfPresent(Object key, Callable<?> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        if (!(wrapper.get() instanceof SoftTtlEntry entry)) {
+            refresh(key, valueLoader);
+            return new SoftTtlEntry(wrapper.get(), 0, 0, null);
+        }
+
+        if (isRefreshDue(entry)) {
+            refresh(key, valueLoader);
+        }
+        return entry;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, entry(value, clock.millis(), 0));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, entry(value, clock.millis(), 0));
+        if (existing == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(existing.get()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * Decides whether an entry should be refreshed, following the XFetch algorithm:
+     * a refresh is due when {@code now - computeTime * beta * ln(random)} reaches the soft expiry.
+     *
+     * @param entry the cached entry
+     * @return {@code true} if the entry should be refreshed
+     */
+    private boolean isRefreshDue(SoftTtlEntry entry) {
+        long softExpiry = entry.createdAt() + softTtl.toMillis();
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double earlyBy = -entry.computeMillis() * beta * Math.log(random);
+        return clock.millis() + earlyBy >= softExpiry;
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, valueLoader);
+                } catch (RuntimeException e) {
+                    LOG.warn("[step:cache-refresh] Could not refresh {} in {}: {}", key, getName(), e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            LOG.debug("[step:cache-refresh] Skipped refresh of {} in {}: {}", key, getName(), e.getMessage());
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        long start = clock.millis();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long end = clock.millis();
+
+        delegate.put(key, entry(value, end, end - start));
+        return value;
+    }
+
+    private SoftTtlEntry entry(Object value, long createdAt, long computeMillis) {
+        String contentHash = contentHasher != null && value != null ? contentHasher.apply(value) : null;
+        return new SoftTtlEntry(value, createdAt, computeMillis, contentHash);
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof SoftTtlEntry entry ? entry.value() : value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.data.redis.cache.RedisCache;
+
+/**
+ * Provides the cache metrics of a {@link SoftTtlCache} by binding the metrics of the cache it decorates.
+ */
+public class SoftTtlCacheMeterBinderProvider implements CacheMeterBinderProvider<SoftTtlCache> {
+    private final TwoTierCacheMeterBinderProvider twoTierProvider = new TwoTierCacheMeterBinderProvider();
+
+    @Override
+    public MeterBinder getMeterBinder(SoftTtlCache cache, Iterable<Tag> tags) {
+        if (cache.getDelegate() instanceof TwoTierCache twoTierCache) {
+            return twoTierProvider.getMeterBinder(twoTierCache, tags);
+        }
+        if (cache.getDelegate() instanceof RedisCache redisCache) {
+            return new RedisCacheMetrics(redisCache, tags);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+/**
+ * Record wrapping a value stored by a {@link SoftTtlCache} with the metadata needed to decide when to refresh it.
+ *
+ * @param value         the cached value
+ * @param createdAt     the time the value was computed, in milliseconds since the epoch
+ * @param computeMillis how long computing the value took, in milliseconds
+ * @param contentHash   the hash of the value computed when it was stored, or {@code null} if the cache does not hash values
+ */
+public record SoftTtlEntry(
+        Object value,
+        long createdAt,
+        long computeMillis,
+        String contentHash
+) {
+}
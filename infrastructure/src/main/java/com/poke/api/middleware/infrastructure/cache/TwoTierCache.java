@@ -0,0 +1,228 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * A {@link org.springframework.cache.Cache} that keeps an in-process near cache in front of a {@link RedisCache}.
+ * Reads are served from the near cache when possible and fall back to Redis, populating the near cache on the way.
+ * Writes go to both tiers and are announced to the other nodes through the {@link TwoTierCacheManager},
+ * so their near caches drop the outdated entry.
+ * Bulk reads look up the near cache first and fetch the remaining keys from Redis with a single {@code MGET}.
+ */
+public class TwoTierCache implements BulkReadCache {
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+    private final RedisCache remoteCache;
+    private final RedisConnectionFactory connectionFactory;
+    private final TwoTierCacheManager cacheManager;
+
+    /**
+     * Constructs a new {@link TwoTierCache}.
+     *
+     * @param nearCache         the in-process Caffeine cache used as the first tier
+     * @param remoteCache       the {@link RedisCache} used as the second tier
+     * @param connectionFactory the {@link RedisConnectionFactory} used for bulk reads
+     * @param cacheManager      the {@link TwoTierCacheManager} used to announce changes to other nodes
+     */
+    public TwoTierCache(
+            com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+            RedisCache remoteCache,
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager
+    ) {
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.connectionFactory = connectionFactory;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    /**
+     * Gets the in-process cache used as the first tier.
+     *
+     * @return the near cache
+     */
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Gets the Redis cache used as the second tier.
+     *
+     * @return the remote cache
+     */
+    public RedisCache getRemoteCache() {
+        return remoteCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = nearCache.getIfPresent(nearKey(key));
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            nearCache.put(
+                    nearKey(key),
+                    wrapper.get()
+            );
+        }
+        return wrapper;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        List<Object> missing = new ArrayList<>();
+        for (Object key : keys) {
+            Object value = nearCache.getIfPresent(nearKey(key));
+            if (value != null) {
+                values.put(key, value);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return values;
+        }
+
+        RedisCacheConfiguration configuration = remoteCache.getCacheConfiguration();
+        String prefix = configuration.getKeyPrefixFor(getName());
+        byte[][] redisKeys = missing.stream()
+                                    .map(key -> ByteUtils.getBytes(configuration.getKeySerializationPair()
+                                                                                .write(prefix + key)))
+                                    .toArray(byte[][]::new);
+
+        List<byte[]> redisValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            redisValues = connection.stringCommands()
+                                    .mGet(redisKeys);
+        }
+
+        for (int i = 0; redisValues != null && i < missing.size(); i++) {
+            byte[] bytes = redisValues.get(i);
+            if (bytes == null) {
+                continue;
+            }
+
+            Object value = configuration.getValueSerializationPair()
+                                        .read(ByteBuffer.wrap(bytes));
+            nearCache.put(nearKey(missing.get(i)), value);
+            values.put(missing.get(i), value);
+        }
+        return values;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value
+            );
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns the cached value, loading and storing it when neither tier holds it.
+     * Unlike {@link RedisCache#get(Object, Callable)}, the load does not hold a cache-wide lock,
+     * so misses on different keys never wait for each other.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        nearCache.put(nearKey(key), value);
+        cacheManager.publishPut(getName(), nearKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing == null || existing.get() == null) {
+            nearCache.put(nearKey(key), value);
+            cacheManager.publishPut(getName(), nearKey(key), value);
+        } else {
+            nearCache.put(nearKey(key), existing.get());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        evictNear(nearKey(key));
+        cacheManager.publishEviction(getName(), nearKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearNear();
+        cacheManager.publishClear(getName());
+    }
+
+    /**
+     * Drops a single entry from the near cache only, leaving Redis untouched.
+     *
+     * @param key the string form of the cache key
+     */
+    void evictNear(String key) {
+        nearCache.invalidate(key);
+    }
+
+    /**
+     * Drops every entry from the near cache only, leaving Redis untouched.
+     */
+    void clearNear() {
+        nearCache.invalidateAll();
+    }
+
+    private static String nearKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,203 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link CacheManager} that puts an in-process near cache in front of selected caches of a {@link RedisCacheManager}.
+ * Every change to a {@link TwoTierCache} is published on a Redis channel, and every node listening on it
+ * drops the matching entry from its own near cache, so nodes never serve an outdated near entry for long.
+ * Every change, local or announced, is also passed to the registered {@link NearCacheInvalidationListener}s.
+ * Caches that are not selected are returned straight from the {@link RedisCacheManager}.
+ * Every cache handed out, two-tier or not, is passed once through the configured decorator.
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+    /**
+     * The Redis channel on which near cache invalidations are published.
+     */
+    public static final String INVALIDATION_CHANNEL = "poke-api:near-cache:invalidation";
+
+    private static final Logger LOG = LoggerFactory.getLogger(TwoTierCacheManager.class);
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+    private final List<NearCacheInvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final RedisCacheManager redisCacheManager;
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final Set<String> nearCacheNames;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final UnaryOperator<Cache> decorator;
+
+    /**
+     * Constructs a new {@link TwoTierCacheManager}.
+     *
+     * @param redisCacheManager the {@link RedisCacheManager} providing the second tier
+     * @param connectionFactory the {@link RedisConnectionFactory} used for bulk reads
+     * @param redisTemplate     the {@link StringRedisTemplate} used to publish invalidations
+     * @param nearCacheNames    the names of the caches that get a near cache
+     * @param maximumSize       the maximum number of entries held by each near cache
+     * @param expireAfterWrite  how long a near cache entry lives after being written
+     * @param decorator         the decorator applied to every cache before handing it out
+     */
+    public TwoTierCacheManager(
+            RedisCacheManager redisCacheManager,
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            Collection<String> nearCacheNames,
+            long maximumSize,
+            Duration expireAfterWrite,
+            UnaryOperator<Cache> decorator
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.nearCacheNames = Set.copyOf(nearCacheNames);
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return decoratedCaches.computeIfAbsent(
+                name,
+                cacheName -> decorator.apply(resolveCache(cacheName))
+        );
+    }
+
+    private Cache resolveCache(String name) {
+        if (!nearCacheNames.contains(name)) {
+            return redisCacheManager.getCache(name);
+        }
+
+        return caches.computeIfAbsent(
+                name,
+                cacheName -> new TwoTierCache(
+                        Caffeine.newBuilder()
+                                .maximumSize(maximumSize)
+                                .expireAfterWrite(expireAfterWrite)
+                                .recordStats()
+                                .build(),
+                        (RedisCache) redisCacheManager.getCache(cacheName),
+                        connectionFactory,
+                        this
+                )
+        );
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * Registers a listener told about every change to the two-tier caches, made on this node or on another one.
+     *
+     * @param listener the {@link NearCacheInvalidationListener} to register
+     */
+    public void addInvalidationListener(NearCacheInvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Drops a near cache entry on receiving an invalidation published by another node.
+     *
+     * @param message the invalidation message, formatted as {@code nodeId|operation|cacheName|key}
+     * @param pattern the pattern that matched the channel, if any
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearNear();
+            notifyClear(parts[2]);
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictNear(parts[3]);
+            notifyEviction(parts[2], parts[3]);
+        }
+    }
+
+    /**
+     * Announces to the listeners and to the other nodes that an entry changed.
+     *
+     * @param cacheName the name of the cache holding the entry
+     * @param key       the string form of the entry key
+     */
+    void publishEviction(String cacheName, String key) {
+        notifyEviction(cacheName, key);
+        publish(String.join("|", nodeId, EVICT, cacheName, key));
+    }
+
+    /**
+     * Announces to the listeners that an entry was written, with the value written,
+     * and to the other nodes that the entry changed.
+     *
+     * @param cacheName the name of the cache holding the entry
+     * @param key       the string form of the entry key
+     * @param value     the value written
+     */
+    void publishPut(String cacheName, String key, Object value) {
+        listeners.forEach(listener -> listener.onPut(cacheName, key, value));
+        publish(String.join("|", nodeId, EVICT, cacheName, key));
+    }
+
+    /**
+     * Announces to the listeners and to the other nodes that a cache was cleared.
+     *
+     * @param cacheName the name of the cleared cache
+     */
+    void publishClear(String cacheName) {
+        notifyClear(cacheName);
+        publish(String.join("|", nodeId, CLEAR, cacheName));
+    }
+
+    private void notifyEviction(String cacheName, String key) {
+        listeners.forEach(listener -> listener.onEvict(cacheName, key));
+    }
+
+    private void notifyClear(String cacheName) {
+        listeners.forEach(listener -> listener.onClear(cacheName));
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            LOG.warn("[step:near-cache-invalidation] Could not publish invalidation: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+
+/**
+ * Provides the cache metrics of a {@link TwoTierCache}, one set per tier.
+ * The Redis tier is reported under the cache name and the near tier under the cache name suffixed with {@code .near},
+ * so hits and misses of each tier can be told apart.
+ */
+public class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+        MeterBinder remote = new RedisCacheMetrics(
+                cache.getRemoteCache(),
+                tags
+        );
+        MeterBinder near = new CaffeineCacheMetrics<>(
+                cache.getNearCache(),
+                cache.getName() + ".near",
+                tags
+        );
+
+        return registry -> {
+            remote.bindTo(registry);
+            near.bindTo(registry);
+        };
+    }
+}
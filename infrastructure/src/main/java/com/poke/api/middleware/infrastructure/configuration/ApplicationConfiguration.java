@@ -1,9 +1,18 @@
 package com.poke.api.middleware.infrastructure.configuration;
 
+import com.poke.api.middleware.application.KnownPokemonNames;
+import com.poke.api.middleware.application.PokemonGateway;
 import com.poke.api.middleware.application.PokemonService;
-import com.poke.api.middleware.infrastructure.rest.PokemonGatewayImpl;
+import com.poke.api.middleware.application.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration class for setting up the application's beans.
@@ -11,16 +20,64 @@ import org.springframework.context.annotation.Configuration;
  * the application's core services.
  */
 @Configuration
+@EnableConfigurationProperties(BatchProperties.class)
 public class ApplicationConfiguration {
 
     /**
-     * Creates a {@link PokemonService} bean with the provided {@link PokemonGatewayImpl} dependency.
+     * Creates a {@link PokemonService} bean with the provided {@link PokemonGateway} dependency.
+     * The gateway is blocking or reactive depending on {@code poke-api.upstream.client}.
      *
-     * @param pokemonGateway the implementation of {@link PokemonGatewayImpl} used for service operations
+     * @param pokemonGateway the implementation of {@link PokemonGateway} used for service operations
+     * @param knownNames     the {@link KnownPokemonNames} rejecting names that cannot exist before any lookup
      * @return a new instance of {@link PokemonService}
      */
     @Bean
-    public PokemonService pokemonService(PokemonGatewayImpl pokemonGateway) {
-        return new PokemonService(pokemonGateway);
+    public PokemonService pokemonService(
+            PokemonGateway pokemonGateway,
+            KnownPokemonNames knownNames
+    ) {
+        return new PokemonService(
+                pokemonGateway,
+                new SingleFlight<>(),
+                knownNames
+        );
+    }
+
+    /**
+     * Exposes the number of searches that shared the upstream lookup of a concurrent search for the same Pokémon.
+     *
+     * @param pokemonService the {@link PokemonService} whose coalesced searches are counted
+     * @return a {@link MeterBinder} registering the {@code pokemon.search.coalesced} counter
+     */
+    @Bean
+    public MeterBinder coalescedSearchesMetric(PokemonService pokemonService) {
+        return registry -> FunctionCounter.builder(
+                                                  "pokemon.search.coalesced",
+                                                  pokemonService,
+                                                  PokemonService::coalescedSearches
+                                          )
+                                          .description("Searches that shared the lookup of a concurrent search for the same Pokémon")
+                                          .register(registry);
+    }
+
+    /**
+     * Creates the executor searching the cache misses of batch searches.
+     * It is separate from the executor fetching abilities, since each search waits for its own ability lookups.
+     * When both the threads and the queue are saturated, the search runs on the calling thread.
+     * Each search runs in the tracing context of the request that submitted it.
+     *
+     * @param properties the {@link BatchProperties} holding the batch settings
+     * @return a configured {@link ThreadPoolTaskExecutor} instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchExecutor(BatchProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.threads());
+        executor.setMaxPoolSize(properties.threads());
+        executor.setQueueCapacity(properties.maxNames());
+        executor.setThreadNamePrefix("batch-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
     }
 }
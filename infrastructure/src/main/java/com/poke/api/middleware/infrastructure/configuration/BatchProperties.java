@@ -0,0 +1,19 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for batch searches, bound from the {@code poke-api.batch} prefix.
+ *
+ * @param maxNames the maximum number of names accepted by a single batch search
+ * @param threads  the number of threads searching the cache misses of batch searches
+ */
+@ConfigurationProperties("poke-api.batch")
+public record BatchProperties(
+        @DefaultValue("50")
+        int maxNames,
+        @DefaultValue("8")
+        int threads
+) {
+}
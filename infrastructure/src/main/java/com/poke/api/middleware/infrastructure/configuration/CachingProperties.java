@@ -0,0 +1,133 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for the application caches, bound from the {@code poke-api.cache} prefix.
+ *
+ * @param serializer           the format of the values stored in Redis
+ * @param compressionThreshold the minimum size, in bytes, of a string compressed by the compact format;
+ *                             {@code 0} disables compression
+ * @param near                 the settings of the in-process near cache kept in front of Redis
+ * @param softTtl              the settings of the stale-while-revalidate mode
+ * @param http                 the settings of the HTTP caching of search responses
+ * @param negative             the settings of the cache of names the API does not know
+ * @param write                the settings of the background writes of search results
+ */
+@ConfigurationProperties("poke-api.cache")
+public record CachingProperties(
+        @DefaultValue("json")
+        Serializer serializer,
+        @DefaultValue("128")
+        int compressionThreshold,
+        @DefaultValue
+        Near near,
+        @DefaultValue
+        SoftTtl softTtl,
+        @DefaultValue
+        Http http,
+        @DefaultValue
+        Negative negative,
+        @DefaultValue
+        Write write
+) {
+
+    /**
+     * The formats available for the values stored in Redis.
+     */
+    public enum Serializer {
+        /**
+         * JSON with embedded type hints, written by {@code GenericJackson2JsonRedisSerializer}.
+         */
+        JSON,
+        /**
+         * The versioned binary format written by {@code CompactRedisSerializer}.
+         */
+        COMPACT
+    }
+
+    /**
+     * Settings for the in-process near cache.
+     * Eviction follows Caffeine's W-TinyLFU policy, which keeps the most frequently requested entries.
+     *
+     * @param cacheNames       the names of the caches that get a near cache
+     * @param maximumSize      the maximum number of entries held by each near cache
+     * @param expireAfterWrite how long a near cache entry lives after being written
+     */
+    public record Near(
+            @DefaultValue("pokemonCache")
+            List<String> cacheNames,
+            @DefaultValue("1000")
+            long maximumSize,
+            @DefaultValue("10m")
+            Duration expireAfterWrite
+    ) {
+    }
+
+    /**
+     * Settings for the stale-while-revalidate mode.
+     * An entry past its soft time-to-live is still served while a single background refresh replaces it;
+     * it is only dropped when the Redis time-to-live ends.
+     *
+     * @param cacheNames     the names of the caches served in stale-while-revalidate mode
+     * @param ttl            how long an entry is served before it gets refreshed
+     * @param beta           how eagerly entries are refreshed before their soft time-to-live ends; {@code 0} disables it
+     * @param refreshThreads  the number of threads running background refreshes
+     */
+    public record SoftTtl(
+            @DefaultValue("pokemonCache")
+            List<String> cacheNames,
+            @DefaultValue("60m")
+            Duration ttl,
+            @DefaultValue("1.0")
+            double beta,
+            @DefaultValue("4")
+            int refreshThreads
+    ) {
+    }
+
+    /**
+     * Settings for the HTTP caching of search responses by clients and shared caches such as a CDN.
+     *
+     * @param maxAge how long a search response may be reused without asking the application again
+     */
+    public record Http(
+            @DefaultValue("1h")
+            Duration maxAge
+    ) {
+    }
+
+    /**
+     * Settings for the in-process cache of names the API answered with {@code 404 Not Found}.
+     * The time-to-live is kept short, so a Pokémon added to the API is found soon after.
+     *
+     * @param maximumSize the maximum number of unknown names remembered
+     * @param ttl         how long an unknown name is answered without asking the API again
+     */
+    public record Negative(
+            @DefaultValue("10000")
+            long maximumSize,
+            @DefaultValue("1m")
+            Duration ttl
+    ) {
+    }
+
+    /**
+     * Settings for the background writes of the results of asynchronous searches.
+     * A write that finds every thread busy and the queue full is dropped; the result is searched again later.
+     *
+     * @param threads       the number of threads writing results to the cache
+     * @param queueCapacity the number of writes waiting for a thread before new writes are dropped
+     */
+    public record Write(
+            @DefaultValue("2")
+            int threads,
+            @DefaultValue("1000")
+            int queueCapacity
+    ) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.infrastructure.store.LocalPokemonStore;
+import com.poke.api.middleware.infrastructure.store.LocalStorePokemonGateway;
+import com.poke.api.middleware.infrastructure.store.PokedexSnapshot;
+import com.poke.api.middleware.infrastructure.store.SnapshotPokemonGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * Configuration class composing the {@link PokemonGateway} used by the application.
+ * The gateway calling the API, qualified as {@code upstream}, is decorated with the local layers that are enabled,
+ * so a lookup only reaches the API when no local layer knows the Pokémon.
+ */
+@Configuration
+@EnableConfigurationProperties(LocalStoreProperties.class)
+public class GatewayConfiguration {
+
+    /**
+     * Opens the local on-disk Pokémon store.
+     *
+     * @param properties the {@link LocalStoreProperties} holding the store location
+     * @return the opened {@link LocalPokemonStore}
+     * @throws IOException if the store file cannot be opened
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "poke-api.local-store", name = "enabled", havingValue = "true")
+    public LocalPokemonStore localPokemonStore(LocalStoreProperties properties) throws IOException {
+        Path parent = properties.path().toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return LocalPokemonStore.open(properties.path());
+    }
+
+    /**
+     * Maps the read-only Pokédex snapshot into memory.
+     * The snapshot is only mapped when its path is set to a non-blank value, since the key is listed empty in the
+     * application configuration.
+     *
+     * @param properties the {@link LocalStoreProperties} holding the snapshot location
+     * @return the mapped {@link PokedexSnapshot}
+     * @throws IOException if the snapshot file cannot be mapped
+     */
+    @Bean
+    @ConditionalOnExpression("!'${poke-api.local-store.snapshot-path:}'.isBlank()")
+    public PokedexSnapshot pokedexSnapshot(LocalStoreProperties properties) throws IOException {
+        return PokedexSnapshot.open(properties.snapshotPath());
+    }
+
+    /**
+     * Creates the {@link PokemonGateway} used by the application.
+     * Lookups go through the Pokédex snapshot, then the local store, then the API, skipping the disabled layers.
+     *
+     * @param upstreamGateway the {@link PokemonGateway} calling the API
+     * @param localStore      the provider of the {@link LocalPokemonStore}, if enabled
+     * @param properties      the {@link LocalStoreProperties} holding the time-to-live of stored Pokémon
+     * @param snapshot        the provider of the {@link PokedexSnapshot}, if configured
+     * @param meterRegistry   the {@link MeterRegistry} on which the hits and misses of the local layers are counted
+     * @return the composed {@link PokemonGateway}
+     */
+    @Bean
+    @Primary
+    public PokemonGateway pokemonGateway(
+            @Qualifier("upstream") PokemonGateway upstreamGateway,
+            ObjectProvider<LocalPokemonStore> localStore,
+            LocalStoreProperties properties,
+            ObjectProvider<PokedexSnapshot> snapshot,
+            MeterRegistry meterRegistry
+    ) {
+        PokemonGateway gateway = upstreamGateway;
+        LocalPokemonStore store = localStore.getIfAvailable();
+        if (store != null) {
+            gateway = new LocalStorePokemonGateway(store, gateway, properties.ttl(), Clock.systemUTC(), meterRegistry);
+        }
+        PokedexSnapshot pokedex = snapshot.getIfAvailable();
+        if (pokedex != null) {
+            gateway = new SnapshotPokemonGateway(pokedex, gateway, meterRegistry);
+        }
+        return gateway;
+    }
+}
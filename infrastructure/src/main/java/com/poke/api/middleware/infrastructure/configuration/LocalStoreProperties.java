@@ -0,0 +1,27 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the local on-disk Pokémon store, bound from the {@code poke-api.local-store} prefix.
+ *
+ * @param enabled      whether Pokémon are read through the local store before calling the API
+ * @param path         the path of the store file, created when missing
+ * @param ttl          how long a stored Pokémon is served before it is refreshed through the API
+ * @param snapshotPath the path of a read-only Pokédex snapshot served before every other source, if any
+ */
+@ConfigurationProperties("poke-api.local-store")
+public record LocalStoreProperties(
+        @DefaultValue("false")
+        boolean enabled,
+        @DefaultValue("data/pokemon.store")
+        Path path,
+        @DefaultValue("7d")
+        Duration ttl,
+        Path snapshotPath
+) {
+}
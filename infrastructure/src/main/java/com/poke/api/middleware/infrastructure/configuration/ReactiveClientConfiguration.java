@@ -0,0 +1,75 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.poke.api.middleware.infrastructure.rest.RedisTokenBucket;
+import com.poke.api.middleware.infrastructure.rest.UpstreamGuard;
+import com.poke.api.middleware.infrastructure.rest.UpstreamGuardFilter;
+import com.poke.api.middleware.infrastructure.rest.UpstreamRateLimitFilter;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration class for setting up the non-blocking {@link WebClient} used by the reactive gateway.
+ * It is only active when {@code poke-api.upstream.client} is {@code reactive}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "poke-api.upstream", name = "client", havingValue = "reactive")
+public class ReactiveClientConfiguration {
+
+    /**
+     * Creates the connection pool of the {@link WebClient}, sized and timed like the blocking client's pool.
+     *
+     * @param properties the {@link UpstreamProperties} holding the pool settings
+     * @return a configured {@link ConnectionProvider} instance
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(UpstreamProperties properties) {
+        UpstreamProperties.Pool pool = properties.pool();
+        return ConnectionProvider.builder("upstream")
+                                 .maxConnections(pool.maxConnectionsPerRoute())
+                                 .pendingAcquireTimeout(pool.acquireTimeout())
+                                 .maxIdleTime(pool.idleTimeout())
+                                 .maxLifeTime(pool.timeToLive())
+                                 .evictInBackground(pool.idleTimeout())
+                                 .metrics(true)
+                                 .build();
+    }
+
+    /**
+     * Creates the {@link WebClient} used to call the API.
+     * Pool metrics are published by Reactor Netty under {@code reactor.netty.connection.provider.*}.
+     * Each request first takes a token from the {@link RedisTokenBucket}, when rate limiting is enabled,
+     * then goes through the {@link UpstreamGuard}, so none is sent while the API is failing or overloaded.
+     *
+     * @param builder            the {@link WebClient.Builder} provided by Spring Boot
+     * @param connectionProvider the {@link ConnectionProvider} holding the connections
+     * @param properties         the {@link UpstreamProperties} holding the timeouts
+     * @param guard              the {@link UpstreamGuard} every request goes through
+     * @param tokenBucket        the {@link RedisTokenBucket} limiting the request rate, if enabled
+     * @return a configured {@link WebClient} instance
+     */
+    @Bean
+    public WebClient upstreamWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider connectionProvider,
+            UpstreamProperties properties,
+            UpstreamGuard guard,
+            ObjectProvider<RedisTokenBucket> tokenBucket
+    ) {
+        UpstreamProperties.Pool pool = properties.pool();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.connectTimeout().toMillis())
+                                          .responseTimeout(pool.readTimeout());
+
+        tokenBucket.ifAvailable(bucket -> builder.filter(new UpstreamRateLimitFilter(bucket)));
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                      .filter(new UpstreamGuardFilter(guard))
+                      .build();
+    }
+}
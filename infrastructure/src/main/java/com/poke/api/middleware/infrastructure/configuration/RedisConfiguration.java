@@ -1,13 +1,36 @@
 package com.poke.api.middleware.infrastructure.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.cache.CompactRedisSerializer;
+import com.poke.api.middleware.infrastructure.cache.JsonContentHasher;
+import com.poke.api.middleware.infrastructure.cache.SoftTtlCache;
+import com.poke.api.middleware.infrastructure.cache.SoftTtlCacheMeterBinderProvider;
+import com.poke.api.middleware.infrastructure.cache.TwoTierCacheManager;
+import com.poke.api.middleware.infrastructure.cache.TwoTierCacheMeterBinderProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration class for setting up Redis caching in the application.
@@ -16,21 +39,189 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachingProperties.class)
 public class RedisConfiguration {
+    private static final Logger LOG = LoggerFactory.getLogger(RedisConfiguration.class);
 
     /**
      * Configures the default settings for Redis cache.
      * The cache entries have a time-to-live of 2 hours, null values are not cached,
-     * and values are serialized using the {@link GenericJackson2JsonRedisSerializer}.
+     * and values are serialized using the {@link GenericJackson2JsonRedisSerializer}, or the
+     * {@link CompactRedisSerializer} when the compact format is selected.
+     * Compact entries live under their own key prefix, so switching formats never reads an entry
+     * written in the other one.
      *
+     * @param properties the {@link CachingProperties} holding the serializer settings
      * @return a configured instance of {@link RedisCacheConfiguration}
      */
     @Bean
-    public RedisCacheConfiguration defaultCacheConfiguration() {
-        return RedisCacheConfiguration.defaultCacheConfig()
-                                      .entryTtl(Duration.ofMinutes(120)) // 2 hours
-                                      .disableCachingNullValues()
-                                      .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                              .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    public RedisCacheConfiguration defaultCacheConfiguration(CachingProperties properties) {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                                                                       .entryTtl(Duration.ofMinutes(120)) // 2 hours
+                                                                       .disableCachingNullValues();
+
+        if (properties.serializer() == CachingProperties.Serializer.COMPACT) {
+            return configuration.prefixCacheNameWith("compact:v" + CompactRedisSerializer.VERSION + ":")
+                                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                                        .fromSerializer(new CompactRedisSerializer(
+                                                new GenericJackson2JsonRedisSerializer(),
+                                                properties.compressionThreshold()
+                                        )));
+        }
+
+        return configuration.serializeValuesWith(RedisSerializationContext.SerializationPair
+                .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    }
+
+    /**
+     * Creates the application {@link TwoTierCacheManager}.
+     * The {@code pokemonCache} and the {@code abilityCache} are created at startup so that their metrics are registered,
+     * and hit and miss statistics are recorded for every Redis cache.
+     * The {@code abilityCache} holds ability responses shared by all Pokémon lookups; abilities change far less often
+     * than the Pokémon responses built from them, so its entries live for 24 hours.
+     * Caches listed for the stale-while-revalidate mode are wrapped in a {@link SoftTtlCache};
+     * the {@code pokemonCache} one stores the hash of each search response next to it, for conditional requests.
+     *
+     * @param connectionFactory         the {@link RedisConnectionFactory} used by the Redis caches and bulk reads
+     * @param defaultCacheConfiguration the default {@link RedisCacheConfiguration} of every Redis cache
+     * @param redisTemplate             the {@link StringRedisTemplate} used to publish near cache invalidations
+     * @param refreshExecutor           the {@link Executor} running background refreshes of stale entries
+     * @param properties                the {@link CachingProperties} holding the near cache and soft TTL settings
+     * @param objectMapper              the {@link ObjectMapper} rendering the search responses, used to hash them
+     * @return a configured {@link TwoTierCacheManager} instance
+     */
+    @Bean
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            RedisCacheConfiguration defaultCacheConfiguration,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+            CachingProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                                                               .cacheDefaults(defaultCacheConfiguration)
+                                                               .initialCacheNames(Set.of("pokemonCache"))
+                                                               .withCacheConfiguration(
+                                                                       "abilityCache",
+                                                                       defaultCacheConfiguration.entryTtl(Duration.ofHours(24))
+                                                               )
+                                                               .enableStatistics()
+                                                               .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(
+                redisCacheManager,
+                connectionFactory,
+                redisTemplate,
+                properties.near().cacheNames(),
+                properties.near().maximumSize(),
+                properties.near().expireAfterWrite(),
+                cache -> softTtl(cache, refreshExecutor, properties.softTtl(), new JsonContentHasher(objectMapper))
+        );
+    }
+
+    /**
+     * Creates the executor running background refreshes of stale cache entries.
+     * When every thread is busy the refresh is skipped; the stale entry keeps being served and is refreshed later.
+     * Each refresh is traced within the request that found the stale entry.
+     *
+     * @param properties the {@link CachingProperties} holding the soft TTL settings
+     * @return a configured {@link ThreadPoolTaskExecutor} instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(CachingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.softTtl().refreshThreads());
+        executor.setMaxPoolSize(properties.softTtl().refreshThreads());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * Creates the executor writing the results of asynchronous searches to the cache, off the threads that found them,
+     * which may be event loop threads. A write that finds the executor saturated is dropped and logged,
+     * rather than run on the calling thread.
+     * Each write is traced within the request that found the result.
+     *
+     * @param properties the {@link CachingProperties} holding the write settings
+     * @return a configured {@link ThreadPoolTaskExecutor} instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheWriteExecutor(CachingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.write().threads());
+        executor.setMaxPoolSize(properties.write().threads());
+        executor.setQueueCapacity(properties.write().queueCapacity());
+        executor.setThreadNamePrefix("cache-write-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler((task, pool) -> LOG.warn(
+                "[step:cache-write] Dropped a cache write, {} writes are already queued",
+                pool.getQueue().size()
+        ));
+        return executor;
+    }
+
+    /**
+     * Creates the listener container that receives near cache invalidations published by other nodes.
+     *
+     * @param connectionFactory the {@link RedisConnectionFactory} used to subscribe to the invalidation channel
+     * @param cacheManager      the {@link TwoTierCacheManager} that handles the invalidations
+     * @return a configured {@link RedisMessageListenerContainer} instance
+     */
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                cacheManager,
+                new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL)
+        );
+        return container;
+    }
+
+    /**
+     * Registers the metrics of each tier of a {@link com.poke.api.middleware.infrastructure.cache.TwoTierCache}.
+     *
+     * @return a new instance of {@link TwoTierCacheMeterBinderProvider}
+     */
+    @Bean
+    public TwoTierCacheMeterBinderProvider twoTierCacheMeterBinderProvider() {
+        return new TwoTierCacheMeterBinderProvider();
+    }
+
+    /**
+     * Registers the metrics of the cache decorated by a {@link SoftTtlCache}.
+     *
+     * @return a new instance of {@link SoftTtlCacheMeterBinderProvider}
+     */
+    @Bean
+    public SoftTtlCacheMeterBinderProvider softTtlCacheMeterBinderProvider() {
+        return new SoftTtlCacheMeterBinderProvider();
+    }
+
+    private static Cache softTtl(
+            Cache cache,
+            Executor refreshExecutor,
+            CachingProperties.SoftTtl properties,
+            JsonContentHasher contentHasher
+    ) {
+        if (!properties.cacheNames().contains(cache.getName())) {
+            return cache;
+        }
+
+        return new SoftTtlCache(
+                cache,
+                refreshExecutor,
+                properties.ttl(),
+                properties.beta(),
+                Clock.systemUTC(),
+                CachedPokemonSearch.POKEMON_CACHE.equals(cache.getName()) ? contentHasher : null
+        );
     }
 }
@@ -0,0 +1,294 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.poke.api.middleware.application.AdaptiveConcurrencyLimiter;
+import com.poke.api.middleware.application.RequestHedger;
+import com.poke.api.middleware.infrastructure.rest.RedisTokenBucket;
+import com.poke.api.middleware.infrastructure.rest.UpstreamGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration class for the {@link UpstreamGuard} and the {@link RedisTokenBucket} every call to the Pokémon API
+ * goes through, and for the {@link RequestHedger} of ability lookups.
+ * Calls they reject fail fast with a {@code 503 Service Unavailable}, unless a stale cached value can be served instead.
+ */
+@Configuration
+public class ResilienceConfiguration {
+    private static final Logger LOG = LoggerFactory.getLogger(ResilienceConfiguration.class);
+    private static final String UPSTREAM = "upstream";
+
+    /**
+     * Creates the registry of circuit breakers, whose default settings are those of the API circuit breaker.
+     *
+     * @param properties the {@link UpstreamProperties} holding the circuit breaker settings
+     * @return a configured {@link CircuitBreakerRegistry} instance
+     */
+    @Bean
+    public CircuitBreakerRegistry upstreamCircuitBreakerRegistry(UpstreamProperties properties) {
+        UpstreamProperties.CircuitBreaker breaker = properties.resilience().circuitBreaker();
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                                                             .failureRateThreshold(breaker.failureRateThreshold())
+                                                             .slowCallRateThreshold(breaker.slowCallRateThreshold())
+                                                             .slowCallDurationThreshold(breaker.slowCallDuration())
+                                                             .slidingWindowSize(breaker.slidingWindowSize())
+                                                             .minimumNumberOfCalls(breaker.minimumNumberOfCalls())
+                                                             .waitDurationInOpenState(breaker.waitInOpenState())
+                                                             .permittedNumberOfCallsInHalfOpenState(breaker.permittedCallsInHalfOpenState())
+                                                             .build());
+    }
+
+    /**
+     * Creates the registry of bulkheads, whose default settings are those of the API bulkhead.
+     *
+     * @param properties the {@link UpstreamProperties} holding the bulkhead settings
+     * @return a configured {@link BulkheadRegistry} instance
+     */
+    @Bean
+    public BulkheadRegistry upstreamBulkheadRegistry(UpstreamProperties properties) {
+        UpstreamProperties.Bulkhead bulkhead = properties.resilience().bulkhead();
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                                                 .maxConcurrentCalls(bulkhead.maxConcurrentCalls())
+                                                 .maxWaitDuration(bulkhead.maxWait())
+                                                 .build());
+    }
+
+    /**
+     * Creates the guard of the calls to the API, made of a circuit breaker, a bulkhead and an adaptive concurrency limit.
+     * Transitions of the circuit breaker are logged.
+     *
+     * @param circuitBreakers the {@link CircuitBreakerRegistry} providing the {@code upstream} circuit breaker
+     * @param bulkheads       the {@link BulkheadRegistry} providing the {@code upstream} bulkhead
+     * @param properties      the {@link UpstreamProperties} holding the adaptive limit settings
+     * @param meterRegistry   the {@link MeterRegistry} on which the calls are counted by response status
+     * @return a configured {@link UpstreamGuard} instance
+     */
+    @Bean
+    public UpstreamGuard upstreamGuard(
+            CircuitBreakerRegistry circuitBreakers,
+            BulkheadRegistry bulkheads,
+            UpstreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        UpstreamProperties.Limit limit = properties.resilience().limit();
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(UPSTREAM);
+        circuitBreaker.getEventPublisher()
+                      .onStateTransition(event -> LOG.warn(
+                              "[step:upstream-circuit] Circuit breaker {}",
+                              event.getStateTransition()
+                      ));
+
+        return new UpstreamGuard(
+                circuitBreaker,
+                bulkheads.bulkhead(UPSTREAM),
+                new AdaptiveConcurrencyLimiter(
+                        limit.initial(),
+                        limit.min(),
+                        limit.max(),
+                        limit.backoffRatio(),
+                        limit.latencyThreshold().toNanos(),
+                        TimeUnit.NANOSECONDS
+                ),
+                meterRegistry
+        );
+    }
+
+    /**
+     * Exposes the state of the guard: the {@code resilience4j.circuitbreaker.*} and {@code resilience4j.bulkhead.*}
+     * metrics tagged with {@code name=upstream}, the current adaptive limit, the calls in progress and the calls
+     * the adaptive limit rejected.
+     *
+     * @param circuitBreakers the {@link CircuitBreakerRegistry} to monitor
+     * @param bulkheads       the {@link BulkheadRegistry} to monitor
+     * @param guard           the {@link UpstreamGuard} whose adaptive limit is monitored
+     * @return a {@link MeterBinder} registering the guard metrics
+     */
+    @Bean
+    public MeterBinder upstreamGuardMetrics(
+            CircuitBreakerRegistry circuitBreakers,
+            BulkheadRegistry bulkheads,
+            UpstreamGuard guard
+    ) {
+        return registry -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers)
+                                       .bindTo(registry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads)
+                                 .bindTo(registry);
+            Gauge.builder(
+                         "upstream.concurrency.limit",
+                         guard.limiter(),
+                         AdaptiveConcurrencyLimiter::limit
+                 )
+                 .description("Calls to the Pokémon API allowed at the same time by the adaptive limit")
+                 .register(registry);
+            Gauge.builder(
+                         "upstream.concurrency.in.flight",
+                         guard.limiter(),
+                         AdaptiveConcurrencyLimiter::inFlight
+                 )
+                 .description("Calls to the Pokémon API in progress")
+                 .register(registry);
+            FunctionCounter.builder(
+                                   "upstream.concurrency.rejections",
+                                   guard.limiter(),
+                                   AdaptiveConcurrencyLimiter::rejectedCount
+                           )
+                           .description("Calls to the Pokémon API rejected because the adaptive limit was reached")
+                           .register(registry);
+        };
+    }
+
+    /**
+     * Creates the token bucket shared by every node calling the API.
+     * It is created unless {@code poke-api.upstream.rate-limit.enabled} is {@code false}.
+     *
+     * @param redisTemplate         the {@link StringRedisTemplate} used by blocking callers
+     * @param reactiveRedisTemplate the {@link ReactiveStringRedisTemplate} used by reactive callers
+     * @param properties            the {@link UpstreamProperties} holding the rate limit settings
+     * @return a configured {@link RedisTokenBucket} instance
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "poke-api.upstream.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisTokenBucket upstreamTokenBucket(
+            StringRedisTemplate redisTemplate,
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            UpstreamProperties properties
+    ) {
+        return new RedisTokenBucket(
+                redisTemplate,
+                reactiveRedisTemplate,
+                properties.rateLimit()
+        );
+    }
+
+    /**
+     * Exposes the calls that waited for a token of the bucket, and those rejected because none came in time.
+     *
+     * @param tokenBucket the {@link RedisTokenBucket} to monitor
+     * @return a {@link MeterBinder} registering the {@code upstream.rate.limit.*} counters
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "poke-api.upstream.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder upstreamTokenBucketMetrics(RedisTokenBucket tokenBucket) {
+        return registry -> {
+            FunctionCounter.builder(
+                                   "upstream.rate.limit.throttled",
+                                   tokenBucket,
+                                   RedisTokenBucket::throttledCount
+                           )
+                           .description("Calls to the Pokémon API that waited for a token of the shared bucket")
+                           .register(registry);
+            FunctionCounter.builder(
+                                   "upstream.rate.limit.rejections",
+                                   tokenBucket,
+                                   RedisTokenBucket::rejectedCount
+                           )
+                           .description("Calls to the Pokémon API rejected because no token came in time")
+                           .register(registry);
+        };
+    }
+
+    /**
+     * Creates the hedger of ability lookups, which only duplicates lookups when
+     * {@code poke-api.upstream.hedging.enabled} is set.
+     *
+     * @param properties    the {@link UpstreamProperties} holding the hedging settings
+     * @param hedgeExecutor the {@link Executor} the duplicate lookups are sent from
+     * @return a configured {@link RequestHedger} instance
+     */
+    @Bean
+    public RequestHedger abilityHedger(
+            UpstreamProperties properties,
+            @Qualifier("hedgeExecutor") Executor hedgeExecutor
+    ) {
+        UpstreamProperties.Hedging hedging = properties.hedging();
+        return new RequestHedger(
+                hedging.enabled(),
+                hedging.percentile(),
+                hedging.minDelay().toNanos(),
+                TimeUnit.NANOSECONDS,
+                hedging.windowSize(),
+                hedgeExecutor
+        );
+    }
+
+    /**
+     * Creates the executor sending duplicate ability lookups.
+     * It has no queue and rejects work when every thread is busy, in which case the duplicate is skipped
+     * and the lookup waits for its first attempt; the upstream executor is left to the first attempts.
+     *
+     * @param properties the {@link UpstreamProperties} holding the hedging settings
+     * @return a configured {@link ThreadPoolTaskExecutor} instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor hedgeExecutor(UpstreamProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.hedging().threads());
+        executor.setMaxPoolSize(properties.hedging().threads());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("hedge-");
+        return executor;
+    }
+
+    /**
+     * Exposes the current hedge delay, the duplicate ability lookups sent, those that answered first
+     * and those skipped because the hedge executor was saturated.
+     *
+     * @param hedger the {@link RequestHedger} to monitor
+     * @return a {@link MeterBinder} registering the {@code upstream.hedge.*} meters
+     */
+    @Bean
+    public MeterBinder abilityHedgerMetrics(RequestHedger hedger) {
+        return registry -> {
+            Gauge.builder(
+                         "upstream.hedge.delay",
+                         hedger,
+                         h -> Math.max(0, h.hedgeDelayNanos()) / 1e9
+                 )
+                 .description("Delay after which an ability lookup is duplicated, 0 until enough lookups were observed")
+                 .baseUnit("seconds")
+                 .register(registry);
+            FunctionCounter.builder(
+                                   "upstream.hedge.sent",
+                                   hedger,
+                                   RequestHedger::hedgesSent
+                           )
+                           .description("Duplicate ability lookups sent because the first one was slow")
+                           .register(registry);
+            FunctionCounter.builder(
+                                   "upstream.hedge.won",
+                                   hedger,
+                                   RequestHedger::hedgesWon
+                           )
+                           .description("Ability lookups answered by their duplicate before the first one")
+                           .register(registry);
+            FunctionCounter.builder(
+                                   "upstream.hedge.skipped",
+                                   hedger,
+                                   RequestHedger::hedgesSkipped
+                           )
+                           .description("Duplicate ability lookups not sent because every hedge thread was busy")
+                           .register(registry);
+        };
+    }
+}
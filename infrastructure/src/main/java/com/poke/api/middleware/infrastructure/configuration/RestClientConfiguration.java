@@ -1,27 +1,172 @@
 package com.poke.api.middleware.infrastructure.configuration;
 
+import com.poke.api.middleware.infrastructure.rest.CancellableRequestFactory;
+import com.poke.api.middleware.infrastructure.rest.RedisTokenBucket;
+import com.poke.api.middleware.infrastructure.rest.UpstreamGuard;
+import com.poke.api.middleware.infrastructure.rest.UpstreamGuardInterceptor;
+import com.poke.api.middleware.infrastructure.rest.UpstreamRateLimitInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Configuration class for setting up RestTemplate beans in the application.
  * This class provides a centralized way to create and configure {@link RestTemplate}
  * instances used for making HTTP requests.
  */
 @Configuration
+@EnableConfigurationProperties(UpstreamProperties.class)
 public class RestClientConfiguration {
 
     /**
      * Creates and configures a {@link RestTemplate} bean using the provided {@link RestTemplateBuilder}.
-     * The builder allows customization of the {@link RestTemplate} before building it.
+     * Requests go through the pooled {@link CloseableHttpClient}, so connections to the API are reused,
+     * and can be aborted in flight through the {@link CancellableRequestFactory}.
+     * Each request first takes a token from the {@link RedisTokenBucket}, when rate limiting is enabled,
+     * then goes through the {@link UpstreamGuard}, so no request is sent while the API is failing or overloaded.
      *
-     * @param builder the {@link RestTemplateBuilder} used for creating the {@link RestTemplate}
+     * @param builder     the {@link RestTemplateBuilder} used for creating the {@link RestTemplate}
+     * @param httpClient  the pooled {@link CloseableHttpClient} used to send the requests
+     * @param guard       the {@link UpstreamGuard} every request goes through
+     * @param tokenBucket the {@link RedisTokenBucket} limiting the request rate, if enabled
      * @return a configured {@link RestTemplate} instance
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            CloseableHttpClient httpClient,
+            UpstreamGuard guard,
+            ObjectProvider<RedisTokenBucket> tokenBucket
+    ) {
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        tokenBucket.ifAvailable(bucket -> interceptors.add(new UpstreamRateLimitInterceptor(bucket)));
+        interceptors.add(new UpstreamGuardInterceptor(guard));
+
+        return builder.requestFactory(() -> new CancellableRequestFactory(httpClient))
+                      .additionalInterceptors(interceptors)
+                      .build();
+    }
+
+    /**
+     * Creates the connection pool shared by every request to the API.
+     *
+     * @param properties the {@link UpstreamProperties} holding the pool settings
+     * @return a configured {@link PoolingHttpClientConnectionManager} instance
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(UpstreamProperties properties) {
+        UpstreamProperties.Pool pool = properties.pool();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                                                        .setMaxConnTotal(pool.maxConnections())
+                                                        .setMaxConnPerRoute(pool.maxConnectionsPerRoute())
+                                                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                                                                                    .setConnectTimeout(Timeout.of(pool.connectTimeout()))
+                                                                                                    .setSocketTimeout(Timeout.of(pool.readTimeout()))
+                                                                                                    .setTimeToLive(TimeValue.of(pool.timeToLive()))
+                                                                                                    .build())
+                                                        .build();
+    }
+
+    /**
+     * Creates the HTTP client used to call the API.
+     * A background thread closes the connections that expired or stayed idle for too long,
+     * so the pool never hands out a connection the server already dropped.
+     *
+     * @param connectionManager the {@link PoolingHttpClientConnectionManager} holding the connections
+     * @param properties        the {@link UpstreamProperties} holding the pool settings
+     * @return a configured {@link CloseableHttpClient} instance
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            UpstreamProperties properties
+    ) {
+        UpstreamProperties.Pool pool = properties.pool();
+        return HttpClients.custom()
+                          .setConnectionManager(connectionManager)
+                          .setDefaultRequestConfig(RequestConfig.custom()
+                                                                .setConnectionRequestTimeout(Timeout.of(pool.acquireTimeout()))
+                                                                .setResponseTimeout(Timeout.of(pool.readTimeout()))
+                                                                .build())
+                          .evictExpiredConnections()
+                          .evictIdleConnections(TimeValue.of(pool.idleTimeout()))
+                          .build();
+    }
+
+    /**
+     * Exposes the leased, pending and available connections of the upstream pool as metrics
+     * tagged with {@code httpclient=upstream}.
+     *
+     * @param connectionManager the {@link PoolingHttpClientConnectionManager} to monitor
+     * @return the {@link MeterBinder} registering the pool metrics
+     */
+    @Bean
+    public MeterBinder upstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(
+                connectionManager,
+                "upstream"
+        );
+    }
+
+    /**
+     * Creates the bounded executor used to fetch the abilities of a Pokémon concurrently.
+     * When both the threads and the queue are saturated, the lookup runs on the calling thread,
+     * which slows down new requests instead of rejecting them.
+     * It is used unless {@code spring.threads.virtual.enabled} is set.
+     *
+     * @param properties the {@link UpstreamProperties} holding the fan-out settings
+     * @return a configured {@link ThreadPoolTaskExecutor} instance
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor upstreamExecutor(UpstreamProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.fanOut().threads());
+        executor.setMaxPoolSize(properties.fanOut().threads());
+        executor.setQueueCapacity(properties.fanOut().queueCapacity());
+        executor.setThreadNamePrefix("upstream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Creates the executor used to fetch the abilities of a Pokémon concurrently when
+     * {@code spring.threads.virtual.enabled} is set on Java 21.
+     * Every lookup gets its own virtual thread, which releases its carrier thread while waiting for the API.
+     * Lookups beyond the per-route connection cap would only wait for a pooled connection,
+     * so they wait for a free slot instead.
+     *
+     * @param properties the {@link UpstreamProperties} holding the pool settings
+     * @return a configured {@link SimpleAsyncTaskExecutor} instance
+     */
+    @Bean("upstreamExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualUpstreamExecutor(UpstreamProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upstream-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.pool().maxConnectionsPerRoute());
+        return executor;
     }
 }
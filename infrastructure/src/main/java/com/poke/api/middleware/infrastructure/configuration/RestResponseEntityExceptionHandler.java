@@ -2,7 +2,10 @@ package com.poke.api.middleware.infrastructure.configuration;
 
 import com.poke.api.middleware.application.ApplicationException;
 import com.poke.api.middleware.application.ErrorDTO;
+import com.poke.api.middleware.application.PokemonNotFoundException;
 import com.poke.api.middleware.domain.DomainValidationException;
+import com.poke.api.middleware.infrastructure.rest.UpstreamUnavailableException;
+import com.poke.api.middleware.infrastructure.web.api.v1.BadRequestException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,6 +49,84 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         );
     }
 
+    /**
+     * Handles {@link PokemonNotFoundException} and returns a structured response entity
+     * with details about the unknown Pokémon.
+     *
+     * @param ex the exception thrown for a name that cannot be the name of a Pokémon
+     * @param request the {@link WebRequest} object containing details of the request
+     * @return a {@link ResponseEntity} containing an {@link ErrorDTO} with error details,
+     *         HTTP headers, and a status code of 404 (Not Found)
+     */
+    @ExceptionHandler({PokemonNotFoundException.class})
+    public ResponseEntity<ErrorDTO> handlePokemonNotFoundException(
+            PokemonNotFoundException ex,
+            WebRequest request
+    ) {
+        return new ResponseEntity<>(
+                ErrorDTO.with(
+                        ex.getLocalizedMessage(),
+                        HttpStatus.NOT_FOUND.value(),
+                        ex.getMessage(),
+                        request.getContextPath()
+                ),
+                new HttpHeaders(),
+                HttpStatus.NOT_FOUND
+        );
+    }
+
+    /**
+     * Handles {@link BadRequestException} and returns a structured response entity
+     * with details about the limit the request broke.
+     *
+     * @param ex the exception thrown for a request that does not respect the limits of an endpoint
+     * @param request the {@link WebRequest} object containing details of the request
+     * @return a {@link ResponseEntity} containing an {@link ErrorDTO} with error details,
+     *         HTTP headers, and a status code of 400 (Bad Request)
+     */
+    @ExceptionHandler({BadRequestException.class})
+    public ResponseEntity<ErrorDTO> handleBadRequestException(
+            BadRequestException ex,
+            WebRequest request
+    ) {
+        return new ResponseEntity<>(
+                ErrorDTO.with(
+                        ex.getLocalizedMessage(),
+                        HttpStatus.BAD_REQUEST.value(),
+                        ex.getMessage(),
+                        request.getContextPath()
+                ),
+                new HttpHeaders(),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * Handles {@link UpstreamUnavailableException} and returns a structured response entity
+     * telling the client the Pokémon API cannot be called right now.
+     *
+     * @param ex the exception thrown when a call to the Pokémon API was rejected without being made
+     * @param request the {@link WebRequest} object containing details of the request
+     * @return a {@link ResponseEntity} containing an {@link ErrorDTO} with error details,
+     *         HTTP headers, and a status code of 503 (Service Unavailable)
+     */
+    @ExceptionHandler({UpstreamUnavailableException.class})
+    public ResponseEntity<ErrorDTO> handleUpstreamUnavailableException(
+            UpstreamUnavailableException ex,
+            WebRequest request
+    ) {
+        return new ResponseEntity<>(
+                ErrorDTO.with(
+                        ex.getLocalizedMessage(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        ex.getMessage(),
+                        request.getContextPath()
+                ),
+                new HttpHeaders(),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
     /**
      * Handles {@link ApplicationException} and returns a structured response entity
      * with details about the application-level error.
@@ -0,0 +1,121 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.poke.api.middleware.application.KnownPokemonNames;
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.infrastructure.rest.PokemonCatalog;
+import com.poke.api.middleware.infrastructure.search.KnownNamesLoader;
+import com.poke.api.middleware.infrastructure.store.LocalPokemonStore;
+import com.poke.api.middleware.infrastructure.store.PokedexSnapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the prefix and fuzzy name search and the filter of known names.
+ * The {@link NameIndex} and the {@link KnownPokemonNames} are loaded from every known source at startup,
+ * reloaded periodically, and learn the name of every successful search.
+ */
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfiguration {
+
+    /**
+     * Creates the in-memory index of Pokémon names.
+     *
+     * @return a new, empty instance of {@link NameIndex}
+     */
+    @Bean
+    public NameIndex nameIndex() {
+        return new NameIndex();
+    }
+
+    /**
+     * Creates the filter of known names, which assumes every name exists until the API listed every Pokémon.
+     *
+     * @param properties the {@link SearchProperties} holding the filter settings
+     * @return a new, empty instance of {@link KnownPokemonNames}
+     */
+    @Bean
+    public KnownPokemonNames knownPokemonNames(SearchProperties properties) {
+        return new KnownPokemonNames(properties.filterFpp());
+    }
+
+    /**
+     * Creates the {@link KnownNamesLoader} filling the index and the filter at startup and periodically.
+     *
+     * @param nameIndex  the {@link NameIndex} to fill
+     * @param knownNames the {@link KnownPokemonNames} to rebuild
+     * @param catalog    the {@link PokemonCatalog} listing the Pokémon known by the API
+     * @param snapshot   the provider of the {@link PokedexSnapshot}, if configured
+     * @param localStore the provider of the {@link LocalPokemonStore}, if enabled
+     * @param properties the {@link SearchProperties} holding the loading settings
+     * @return a new instance of {@link KnownNamesLoader}
+     */
+    @Bean
+    public KnownNamesLoader knownNamesLoader(
+            NameIndex nameIndex,
+            KnownPokemonNames knownNames,
+            PokemonCatalog catalog,
+            ObjectProvider<PokedexSnapshot> snapshot,
+            ObjectProvider<LocalPokemonStore> localStore,
+            SearchProperties properties
+    ) {
+        return new KnownNamesLoader(
+                nameIndex,
+                knownNames,
+                catalog,
+                snapshot,
+                localStore,
+                properties
+        );
+    }
+
+    /**
+     * Exposes the number of indexed names.
+     *
+     * @param nameIndex the {@link NameIndex} to monitor
+     * @return a {@link MeterBinder} registering the {@code pokemon.search.index.size} gauge
+     */
+    @Bean
+    public MeterBinder nameIndexMetrics(NameIndex nameIndex) {
+        return registry -> Gauge.builder(
+                                        "pokemon.search.index.size",
+                                        nameIndex,
+                                        NameIndex::size
+                                )
+                                .description("Pokémon names known to the prefix and fuzzy search")
+                                .register(registry);
+    }
+
+    /**
+     * Exposes the estimated false-positive rate of the filter of known names, and the number of names it rejected.
+     * The rate is {@code 1} while the filter lets every name through.
+     *
+     * @param knownNames the {@link KnownPokemonNames} to monitor
+     * @return a {@link MeterBinder} registering the {@code pokemon.search.filter.fpp} gauge
+     * and the {@code pokemon.search.filter.rejections} counter
+     */
+    @Bean
+    public MeterBinder knownNamesMetrics(KnownPokemonNames knownNames) {
+        return registry -> {
+            Gauge.builder(
+                         "pokemon.search.filter.fpp",
+                         knownNames,
+                         KnownPokemonNames::expectedFpp
+                 )
+                 .description("Estimated probability that an unknown Pokémon name passes the filter of known names")
+                 .register(registry);
+            FunctionCounter.builder(
+                                   "pokemon.search.filter.rejections",
+                                   knownNames,
+                                   KnownPokemonNames::rejections
+                           )
+                           .description("Searches rejected as unknown before any cache or API lookup")
+                           .register(registry);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the name search and the filter of known names,
+ * bound from the {@code poke-api.search} prefix.
+ *
+ * @param loadCatalog     whether the names listed by the API are loaded at startup
+ * @param catalogLimit    the maximum number of names listed from the API
+ * @param defaultLimit    the number of matches returned when the request does not set a limit
+ * @param maxLimit        the maximum number of matches a request can ask for
+ * @param filterFpp       the false-positive probability of the filter of known names
+ * @param refreshInterval how often the names are loaded again, picking up the Pokémon added to the API
+ */
+@ConfigurationProperties("poke-api.search")
+public record SearchProperties(
+        @DefaultValue("true")
+        boolean loadCatalog,
+        @DefaultValue("2000")
+        int catalogLimit,
+        @DefaultValue("10")
+        int defaultLimit,
+        @DefaultValue("50")
+        int maxLimit,
+        @DefaultValue("0.01")
+        double filterFpp,
+        @DefaultValue("6h")
+        Duration refreshInterval
+) {
+}
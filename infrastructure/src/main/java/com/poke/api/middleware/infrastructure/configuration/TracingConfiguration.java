@@ -0,0 +1,53 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.poke.api.middleware.infrastructure.tracing.FileSpanExporter;
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Configuration class for distributed tracing, on top of the Micrometer Tracing and OpenTelemetry setup of Spring Boot.
+ * <p>
+ * Spring Boot already traces incoming requests and every {@code RestTemplate} and {@code WebClient} call,
+ * propagating the trace to the API. This class adds a span for every Redis command and, when enabled,
+ * writes finished spans to a local file instead of sending them to a collector.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfiguration {
+
+    /**
+     * Traces every Redis command sent through Lettuce, as a child of the current span.
+     *
+     * @param observationRegistry the {@link ObservationRegistry} recording the command spans
+     * @return the {@link ClientResourcesBuilderCustomizer} enabling Lettuce tracing
+     */
+    @Bean
+    public ClientResourcesBuilderCustomizer redisTracing(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(
+                observationRegistry,
+                "redis"
+        ));
+    }
+
+    /**
+     * Creates the exporter writing finished spans to a local file.
+     * Spring Boot sends the spans of every registered exporter through its batching span processor.
+     * It is created when {@code poke-api.tracing.file-export.enabled} is set.
+     *
+     * @param properties the {@link TracingProperties} holding the file location
+     * @return the opened {@link FileSpanExporter}
+     * @throws IOException if the file cannot be opened
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "poke-api.tracing.file-export", name = "enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(TracingProperties properties) throws IOException {
+        return new FileSpanExporter(properties.fileExport().path());
+    }
+}
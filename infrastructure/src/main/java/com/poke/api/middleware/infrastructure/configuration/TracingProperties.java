@@ -0,0 +1,34 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for exporting traces, bound from the {@code poke-api.tracing} prefix.
+ * Sampling and propagation are configured by Spring Boot under {@code management.tracing}.
+ *
+ * @param fileExport the settings of the exporter writing finished spans to a local file
+ */
+@ConfigurationProperties("poke-api.tracing")
+public record TracingProperties(
+        @DefaultValue
+        FileExport fileExport
+) {
+
+    /**
+     * Settings for the exporter writing finished spans to a local file, one JSON object per line,
+     * so traces can be read without a tracing backend.
+     *
+     * @param enabled whether finished spans are written to the file
+     * @param path    the file the spans are appended to, created when missing
+     */
+    public record FileExport(
+            @DefaultValue("false")
+            boolean enabled,
+            @DefaultValue("traces/spans.jsonl")
+            Path path
+    ) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the upstream Pokémon API, bound from the {@code poke-api.upstream} prefix.
+ *
+ * @param baseUrl    the base URL of the Pokémon API, without a trailing slash
+ * @param client     the kind of HTTP client used to call the API
+ * @param fanOut     the settings used when fetching the abilities of a Pokémon concurrently
+ * @param pool       the settings of the pooled HTTP client used to call the API
+ * @param resilience the settings protecting the application from a failing or slow API
+ * @param rateLimit  the settings of the request rate shared by every node calling the API
+ * @param hedging    the settings of the duplicate ability lookups sent when the first one is slow
+ */
+@ConfigurationProperties("poke-api.upstream")
+public record UpstreamProperties(
+        @DefaultValue("https://pokeapi.co/api/v2")
+        String baseUrl,
+        @DefaultValue("blocking")
+        Client client,
+        @DefaultValue
+        FanOut fanOut,
+        @DefaultValue
+        Pool pool,
+        @DefaultValue
+        Resilience resilience,
+        @DefaultValue
+        RateLimit rateLimit,
+        @DefaultValue
+        Hedging hedging
+) {
+
+    /**
+     * The kinds of HTTP client available to call the API.
+     */
+    public enum Client {
+        /**
+         * {@code RestTemplate} over the pooled Apache HttpClient, holding a thread for every call.
+         */
+        BLOCKING,
+        /**
+         * {@code WebClient} over Reactor Netty, holding no thread while waiting for the API.
+         */
+        REACTIVE
+    }
+
+    /**
+     * Settings for the concurrent ability lookups issued for each Pokémon.
+     *
+     * @param threads       the number of threads available for ability lookups
+     * @param queueCapacity the number of lookups that may wait for a free thread
+     * @param timeout       the deadline for all ability lookups of a single Pokémon
+     */
+    public record FanOut(
+            @DefaultValue("16")
+            int threads,
+            @DefaultValue("256")
+            int queueCapacity,
+            @DefaultValue("5s")
+            Duration timeout
+    ) {
+    }
+
+    /**
+     * Settings for the pooled HTTP client that keeps connections to the API alive between requests.
+     * They apply to both kinds of client.
+     *
+     * @param maxConnections         the maximum number of open connections
+     * @param maxConnectionsPerRoute the maximum number of open connections to a single host
+     * @param connectTimeout         the deadline for opening a connection
+     * @param readTimeout            the deadline for the API to send a response once a request was sent
+     * @param acquireTimeout         the deadline for leasing a connection from the pool
+     * @param idleTimeout            how long an unused connection is kept open
+     * @param timeToLive             how long a connection is reused before being closed, so DNS changes are picked up
+     */
+    public record Pool(
+            @DefaultValue("200")
+            int maxConnections,
+            @DefaultValue("50")
+            int maxConnectionsPerRoute,
+            @DefaultValue("2s")
+            Duration connectTimeout,
+            @DefaultValue("5s")
+            Duration readTimeout,
+            @DefaultValue("1s")
+            Duration acquireTimeout,
+            @DefaultValue("30s")
+            Duration idleTimeout,
+            @DefaultValue("5m")
+            Duration timeToLive
+    ) {
+    }
+
+    /**
+     * Settings for the guards every call to the API goes through. They apply to both kinds of client.
+     *
+     * @param circuitBreaker the settings of the circuit breaker suspending calls while the API is failing
+     * @param bulkhead       the settings of the bulkhead capping the number of concurrent calls
+     * @param limit          the settings of the concurrency limit adapting to the latency of the API
+     */
+    public record Resilience(
+            @DefaultValue
+            CircuitBreaker circuitBreaker,
+            @DefaultValue
+            Bulkhead bulkhead,
+            @DefaultValue
+            Limit limit
+    ) {
+    }
+
+    /**
+     * Settings for the circuit breaker, which opens when too many of the recent calls failed or were slow,
+     * and then rejects every call until a few trial calls succeed.
+     *
+     * @param failureRateThreshold          the percentage of failed calls that opens the circuit
+     * @param slowCallRateThreshold         the percentage of slow calls that opens the circuit
+     * @param slowCallDuration              the latency above which a call counts as slow
+     * @param slidingWindowSize             the number of recent calls the rates are computed over
+     * @param minimumNumberOfCalls          the number of calls needed before the rates are computed
+     * @param waitInOpenState               how long the circuit stays open before trial calls are let through
+     * @param permittedCallsInHalfOpenState the number of trial calls deciding whether the circuit closes again
+     */
+    public record CircuitBreaker(
+            @DefaultValue("50")
+            float failureRateThreshold,
+            @DefaultValue("80")
+            float slowCallRateThreshold,
+            @DefaultValue("2s")
+            Duration slowCallDuration,
+            @DefaultValue("50")
+            int slidingWindowSize,
+            @DefaultValue("20")
+            int minimumNumberOfCalls,
+            @DefaultValue("10s")
+            Duration waitInOpenState,
+            @DefaultValue("5")
+            int permittedCallsInHalfOpenState
+    ) {
+    }
+
+    /**
+     * Settings for the bulkhead, a fixed cap on the number of calls to the API in progress at the same time.
+     *
+     * @param maxConcurrentCalls the maximum number of calls in progress
+     * @param maxWait            how long a call waits for a free slot before being rejected
+     */
+    public record Bulkhead(
+            @DefaultValue("50")
+            int maxConcurrentCalls,
+            @DefaultValue("0s")
+            Duration maxWait
+    ) {
+    }
+
+    /**
+     * Settings for the adaptive concurrency limit, which grows while calls are fast and shrinks when they are slow or fail.
+     *
+     * @param initial          the limit at startup
+     * @param min              the lowest the limit can go
+     * @param max              the highest the limit can go
+     * @param backoffRatio     the factor applied to the limit on a slow or failed call
+     * @param latencyThreshold the latency above which a call counts as slow
+     */
+    public record Limit(
+            @DefaultValue("20")
+            int initial,
+            @DefaultValue("4")
+            int min,
+            @DefaultValue("50")
+            int max,
+            @DefaultValue("0.9")
+            double backoffRatio,
+            @DefaultValue("1s")
+            Duration latencyThreshold
+    ) {
+    }
+
+    /**
+     * Settings for the token bucket, kept in Redis, that every node takes a token from before calling the API,
+     * so the nodes together stay within the fair-use limits of the API.
+     *
+     * @param enabled         whether calls to the API are rate limited
+     * @param key             the Redis key of the bucket, shared by every node
+     * @param capacity        the number of tokens the bucket holds, the largest burst of calls allowed
+     * @param tokensPerSecond the number of tokens added to the bucket every second, the sustained call rate
+     * @param maxWait         how long a call waits for a token before being rejected
+     */
+    public record RateLimit(
+            @DefaultValue("true")
+            boolean enabled,
+            @DefaultValue("poke-api:upstream:rate-limit")
+            String key,
+            @DefaultValue("200")
+            int capacity,
+            @DefaultValue("100")
+            double tokensPerSecond,
+            @DefaultValue("500ms")
+            Duration maxWait
+    ) {
+    }
+
+    /**
+     * Settings for hedged ability requests: a request to the API, made when an ability is not cached, that has not
+     * answered within a percentile of the observed latencies is sent again, and the first answer is used.
+     *
+     * @param enabled    whether ability lookups are hedged
+     * @param percentile the percentile of the observed latencies after which a duplicate is sent
+     * @param minDelay   the shortest delay before a duplicate is sent
+     * @param windowSize the number of recent latencies the percentile is computed over
+     * @param threads    the number of threads sending duplicates; a duplicate is skipped when they are all busy
+     */
+    public record Hedging(
+            @DefaultValue("false")
+            boolean enabled,
+            @DefaultValue("0.95")
+            double percentile,
+            @DefaultValue("50ms")
+            Duration minDelay,
+            @DefaultValue("1000")
+            int windowSize,
+            @DefaultValue("8")
+            int threads
+    ) {
+    }
+}
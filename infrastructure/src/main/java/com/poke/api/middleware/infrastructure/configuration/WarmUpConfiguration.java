@@ -0,0 +1,98 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poke.api.middleware.infrastructure.cache.CacheWarmUpHealthIndicator;
+import com.poke.api.middleware.infrastructure.cache.CacheWarmer;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.rest.PokemonCatalog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration class for the cache warm-up run at startup.
+ * The warm-up itself only exists when {@code poke-api.warm-up.enabled} is set,
+ * while its health indicator always exists, since the readiness group refers to it.
+ */
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfiguration {
+
+    /**
+     * Creates the executor searching the Pokémon during the warm-up.
+     * It has no queue: when every thread is busy, the warm-up thread runs the next search itself,
+     * so no more than {@code concurrency + 1} searches run at the same time.
+     *
+     * @param properties the {@link WarmUpProperties} holding the warm-up settings
+     * @return a configured {@link ThreadPoolTaskExecutor} instance
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "poke-api.warm-up", name = "enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor warmUpExecutor(WarmUpProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.concurrency());
+        executor.setMaxPoolSize(properties.concurrency());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("warm-up-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Creates the {@link CacheWarmer} filling the caches at startup.
+     *
+     * @param pokemonSearch the {@link CachedPokemonSearch} used to search and cache each Pokémon
+     * @param catalog       the {@link PokemonCatalog} listing the Pokémon known by the API
+     * @param cacheManager  the {@link CacheManager} providing the caches to fill
+     * @param objectMapper  the {@link ObjectMapper} used to read the dump file
+     * @param executor      the {@link Executor} running the searches
+     * @param properties    the {@link WarmUpProperties} holding the warm-up settings
+     * @return a new instance of {@link CacheWarmer}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "poke-api.warm-up", name = "enabled", havingValue = "true")
+    public CacheWarmer cacheWarmer(
+            CachedPokemonSearch pokemonSearch,
+            PokemonCatalog catalog,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            @Qualifier("warmUpExecutor") Executor executor,
+            WarmUpProperties properties
+    ) {
+        return new CacheWarmer(
+                pokemonSearch,
+                catalog,
+                cacheManager,
+                objectMapper,
+                executor,
+                properties
+        );
+    }
+
+    /**
+     * Creates the health indicator, named {@code cacheWarmUp}, that keeps the application unready
+     * until the warm-up cached enough Pokémon.
+     *
+     * @param cacheWarmer the provider of the {@link CacheWarmer}, if the warm-up is enabled
+     * @param properties  the {@link WarmUpProperties} holding the readiness fraction
+     * @return a new instance of {@link CacheWarmUpHealthIndicator}
+     */
+    @Bean
+    public CacheWarmUpHealthIndicator cacheWarmUpHealthIndicator(
+            ObjectProvider<CacheWarmer> cacheWarmer,
+            WarmUpProperties properties
+    ) {
+        return new CacheWarmUpHealthIndicator(
+                cacheWarmer,
+                properties.readyFraction()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache warm-up run at startup, bound from the {@code poke-api.warm-up} prefix.
+ *
+ * @param enabled         whether the caches are warmed up at startup
+ * @param dumpFile        the path of a JSON array of search results to load instead of calling the API, if any
+ * @param limit           the maximum number of Pokémon listed from the API
+ * @param concurrency     the number of Pokémon searched at the same time
+ * @param ratePerSecond   the maximum number of Pokémon searched per second
+ * @param readyFraction   the fraction of the Pokémon that must be cached before the application reports ready
+ * @param listingAttempts the number of times listing the Pokémon is tried before the warm-up gives up
+ * @param listingBackoff  the wait before the second listing attempt, doubled before each further one
+ */
+@ConfigurationProperties("poke-api.warm-up")
+public record WarmUpProperties(
+        @DefaultValue("false")
+        boolean enabled,
+        String dumpFile,
+        @DefaultValue("2000")
+        int limit,
+        @DefaultValue("4")
+        int concurrency,
+        @DefaultValue("20")
+        int ratePerSecond,
+        @DefaultValue("0.95")
+        double readyFraction,
+        @DefaultValue("5")
+        int listingAttempts,
+        @DefaultValue("2s")
+        Duration listingBackoff
+) {
+}
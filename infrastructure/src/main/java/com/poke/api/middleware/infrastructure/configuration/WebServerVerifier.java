@@ -0,0 +1,103 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies at startup that the embedded web server runs with the configured {@code server.*} settings.
+ * On Undertow, the worker and I/O thread counts reported by the XNIO worker must match
+ * {@code server.undertow.threads}, otherwise the application fails to start. Only the thread counts are verified:
+ * neither XNIO nor Undertow exposes the buffers in effect, so {@code server.undertow.buffer-size} and
+ * {@code server.undertow.direct-buffers} are only logged as configured.
+ * On any other server the Undertow settings do not apply, which is logged as a warning.
+ */
+@Component
+public class WebServerVerifier implements ApplicationListener<WebServerInitializedEvent> {
+    private static final Logger LOG = LoggerFactory.getLogger(WebServerVerifier.class);
+    private static final String XNIO_WORKERS = "org.xnio:type=Xnio,provider=*,worker=*";
+
+    private final ServerProperties serverProperties;
+    private final Environment environment;
+
+    /**
+     * Constructs a new {@link WebServerVerifier}.
+     *
+     * @param serverProperties the {@link ServerProperties} holding the configured server settings
+     * @param environment      the {@link Environment} holding the threading settings
+     */
+    public WebServerVerifier(
+            ServerProperties serverProperties,
+            Environment environment
+    ) {
+        this.serverProperties = serverProperties;
+        this.environment = environment;
+    }
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        String server = event.getWebServer().getClass().getSimpleName();
+        if (!server.startsWith("Undertow")) {
+            LOG.warn("[step:web-server] Running on {}; the server.undertow settings are ignored", server);
+            return;
+        }
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            LOG.warn("[step:web-server] Undertow does not handle requests on virtual threads; "
+                             + "only ability lookups use them. Build with -PwebServer=tomcat for virtual request threads");
+        }
+
+        verifyUndertowThreads(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Verifies the thread counts of every XNIO worker registered in an {@link MBeanServer}.
+     * The XNIO server MBeans, which carry an {@code address} key next to the worker name, are skipped.
+     *
+     * @param mBeanServer the {@link MBeanServer} holding the XNIO MBeans
+     * @throws IllegalStateException if a worker runs with other thread counts than configured
+     */
+    void verifyUndertowThreads(MBeanServer mBeanServer) {
+        ServerProperties.Undertow undertow = serverProperties.getUndertow();
+        try {
+            Set<ObjectName> workers = mBeanServer.queryNames(new ObjectName(XNIO_WORKERS), null)
+                                                 .stream()
+                                                 .filter(name -> name.getKeyProperty("address") == null)
+                                                 .collect(Collectors.toSet());
+            if (workers.isEmpty()) {
+                LOG.warn("[step:web-server] Could not find the XNIO worker to verify the Undertow threads");
+                return;
+            }
+
+            for (ObjectName worker : workers) {
+                int ioThreads = (Integer) mBeanServer.getAttribute(worker, "IoThreadCount");
+                int workerThreads = (Integer) mBeanServer.getAttribute(worker, "MaxWorkerPoolSize");
+                verify("server.undertow.threads.io", undertow.getThreads().getIo(), ioThreads);
+                verify("server.undertow.threads.worker", undertow.getThreads().getWorker(), workerThreads);
+                LOG.info("[step:web-server] Undertow running with {} I/O threads and {} worker threads; "
+                                 + "configured with {} buffers, direct buffers {} (not verified)",
+                         ioThreads, workerThreads, undertow.getBufferSize(), undertow.getDirectBuffers());
+            }
+        } catch (JMException e) {
+            LOG.warn("[step:web-server] Could not verify the Undertow threads: {}", e.getMessage());
+        }
+    }
+
+    private static void verify(String property, Integer configured, int actual) {
+        if (configured != null && configured != actual) {
+            throw new IllegalStateException(property + " is " + configured + " but Undertow runs with " + actual);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.poke.api.middleware.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Creates the meters describing where the time of a Pokémon search goes, so every stage reports them alike.
+ * <p>
+ * Each stage of the search pipeline is timed by the {@code pokemon.pipeline} timer, tagged with its {@code stage},
+ * with a percentile histogram so tail latencies can be aggregated across nodes. Stages nest: the controller stage
+ * includes the service stage, which includes the gateway stage, which includes the mapper stage.
+ */
+public final class PipelineMetrics {
+    /**
+     * The handling of a search request, from the controller until the response is ready.
+     */
+    public static final String CONTROLLER = "controller";
+    /**
+     * A search by the {@code PokemonService}, run on cache misses.
+     */
+    public static final String SERVICE = "service";
+    /**
+     * A lookup of a Pokémon and its abilities from the external API.
+     */
+    public static final String GATEWAY = "gateway";
+    /**
+     * The mapping of the API responses to a domain Pokémon.
+     */
+    public static final String MAPPER = "mapper";
+    /**
+     * The rendering of a search result into the JSON response body.
+     */
+    public static final String SERIALIZATION = "serialization";
+
+    private PipelineMetrics() {
+    }
+
+    /**
+     * Gets the timer of a stage of the search pipeline.
+     *
+     * @param registry the {@link MeterRegistry} the timer is registered on
+     * @param stage    the stage timed, one of the constants of this class
+     * @return the {@link Timer} of the stage
+     */
+    public static Timer stage(MeterRegistry registry, String stage) {
+        return Timer.builder("pokemon.pipeline")
+                    .description("Time spent in each stage of a Pokémon search")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .register(registry);
+    }
+
+    /**
+     * Gets the counter of the lookups of a local tier that found, or did not find, the Pokémon.
+     * The cache tiers are reported by the {@code cache.gets} meters instead.
+     *
+     * @param registry the {@link MeterRegistry} the counter is registered on
+     * @param tier     the tier looked up, such as {@code snapshot} or {@code store}
+     * @param hit      whether the counted lookups found the Pokémon
+     * @return the {@link Counter} of the lookups
+     */
+    public static Counter tierLookups(MeterRegistry registry, String tier, boolean hit) {
+        return Counter.builder("pokemon.tier.lookups")
+                      .description("Lookups of a local Pokémon tier, by result")
+                      .tag("tier", tier)
+                      .tag("result", hit ? "hit" : "miss")
+                      .register(registry);
+    }
+
+    /**
+     * Gets the distribution of the number of abilities fetched for each Pokémon looked up from the API.
+     *
+     * @param registry the {@link MeterRegistry} the summary is registered on
+     * @return the {@link DistributionSummary} of the ability fan-out
+     */
+    public static DistributionSummary fanOut(MeterRegistry registry) {
+        return DistributionSummary.builder("upstream.fan.out.size")
+                                  .description("Ability lookups issued for each Pokémon fetched from the API")
+                                  .baseUnit("abilities")
+                                  .register(registry);
+    }
+
+    /**
+     * Counts a call to the external API by its outcome.
+     *
+     * @param registry the {@link MeterRegistry} the counter is registered on
+     * @param status   the status code of the response, or {@code IO_ERROR} when none was received
+     */
+    public static void countUpstreamResponse(MeterRegistry registry, String status) {
+        Counter.builder("upstream.responses")
+               .description("Calls to the Pokémon API, by response status")
+               .tag("status", status)
+               .register(registry)
+               .increment();
+    }
+}
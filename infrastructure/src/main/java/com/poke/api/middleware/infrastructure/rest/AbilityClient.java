@@ -0,0 +1,127 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.application.RequestHedger;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Client for fetching abilities from an external Pokémon API.
+ * Abilities are shared by many Pokémon, so each response is cached by its URL in the {@code abilityCache},
+ * which lets a Pokémon lookup fetch only the abilities that were never seen before.
+ * Only the calls to the API, made on a cache miss, go through the {@link RequestHedger}, so cache hits neither
+ * lower the hedge delay nor get duplicated; the attempt that lost is aborted through the
+ * {@link CancellableRequestFactory}, as are both attempts when the lookup is cancelled.
+ * A failing cache is logged and bypassed, since the API can still answer.
+ */
+@Component
+public class AbilityClient {
+    private static final Logger LOG = LoggerFactory.getLogger(AbilityClient.class);
+    private static final String ABILITY_CACHE = "abilityCache";
+
+    private final RestTemplate restTemplate;
+    private final Cache cache;
+    private final RequestHedger abilityHedger;
+    private final Executor executor;
+    private final ContextSnapshotFactory contextSnapshots = ContextSnapshotFactory.builder().build();
+
+    /**
+     * Constructs a new {@link AbilityClient}.
+     *
+     * @param restTemplate  the {@link RestTemplate} used for HTTP requests to the Pokémon API
+     * @param cacheManager  the {@link CacheManager} providing the {@code abilityCache}
+     * @param abilityHedger the {@link RequestHedger} duplicating slow calls to the API
+     * @param executor      the {@link Executor} on which the cache is read and the API is called
+     */
+    public AbilityClient(
+            RestTemplate restTemplate,
+            CacheManager cacheManager,
+            RequestHedger abilityHedger,
+            @Qualifier("upstreamExecutor") Executor executor
+    ) {
+        this.restTemplate = restTemplate;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(ABILITY_CACHE), ABILITY_CACHE);
+        this.abilityHedger = abilityHedger;
+        this.executor = executor;
+    }
+
+    /**
+     * Fetches an ability by its URL on the executor, returning the cached response when available.
+     * On a cache miss the API is called from the same task that read the cache, so the executor is never waited on
+     * from one of its own threads; a hedged duplicate runs on the hedge executor of the {@link RequestHedger}.
+     * The tracing context of the caller is captured here and restored on both, so the ability request is traced
+     * as a child of the Pokémon lookup. Cancelling the returned future aborts the requests still in flight.
+     *
+     * @param url the URL of the ability, as reported in the Pokémon response
+     * @return a {@link CompletableFuture} completed with the {@link AbilityResponse} for the given URL,
+     * or failed with a {@link java.util.NoSuchElementException} if the API returns an empty body
+     */
+    public CompletableFuture<AbilityResponse> fetchAsync(String url) {
+        ContextSnapshot context = contextSnapshots.captureAll();
+        CompletableFuture<AbilityResponse> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            AbilityResponse hit = cached(url, context);
+            if (hit != null) {
+                result.complete(hit);
+                return;
+            }
+            result.thenAccept(ability -> store(url, ability));
+            abilityHedger.call(result, attempt -> exchange(url, attempt, context));
+        });
+        return result;
+    }
+
+    /**
+     * Makes one attempt of the call to the API on the current thread, completing {@code attempt}.
+     * Cancelling {@code attempt} aborts the request if it is still in flight.
+     */
+    private void exchange(String url, CompletableFuture<AbilityResponse> attempt, ContextSnapshot context) {
+        if (attempt.isDone()) {
+            return;
+        }
+        try (ContextSnapshot.Scope scope = context.setThreadLocals()) {
+            attempt.complete(CancellableRequestFactory.sendFor(attempt, () -> get(url)));
+        } catch (RuntimeException e) {
+            attempt.completeExceptionally(e);
+        }
+    }
+
+    private AbilityResponse get(String url) {
+        return Optional.ofNullable(restTemplate.getForObject(
+                               url,
+                               AbilityResponse.class
+                       ))
+                       .orElseThrow();
+    }
+
+    private AbilityResponse cached(String url, ContextSnapshot context) {
+        try (ContextSnapshot.Scope scope = context.setThreadLocals()) {
+            return cache.get(url, AbilityResponse.class);
+        } catch (RuntimeException e) {
+            LOG.warn("[step:ability-cache] Could not read {}: {}", ABILITY_CACHE, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String url, AbilityResponse ability) {
+        try {
+            cache.put(url, ability);
+        } catch (RuntimeException e) {
+            LOG.warn("[step:ability-cache] Could not write {}: {}", ABILITY_CACHE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link HttpComponentsClientHttpRequestFactory} whose requests can be aborted while they are in flight.
+ * A request sent from within {@link #sendFor(CompletableFuture, Supplier)} is tied to the given future:
+ * cancelling the future aborts the request and closes its connection, so the thread waiting for the response
+ * is released at once instead of reading an answer nobody needs, such as that of a hedged attempt that lost.
+ */
+public class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+    private static final ThreadLocal<CompletableFuture<?>> OWNER = new ThreadLocal<>();
+
+    /**
+     * Constructs a new {@link CancellableRequestFactory}.
+     *
+     * @param httpClient the {@link HttpClient} sending the requests
+     */
+    public CancellableRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * Makes a call on the current thread, aborting the requests it sends once {@code owner} is cancelled.
+     *
+     * @param owner the future whose cancellation aborts the requests
+     * @param call  the call sending the requests
+     * @param <T>   the type of the call result
+     * @return the result of the call
+     */
+    public static <T> T sendFor(CompletableFuture<?> owner, Supplier<T> call) {
+        CompletableFuture<?> previous = OWNER.get();
+        OWNER.set(owner);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                OWNER.remove();
+            } else {
+                OWNER.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Tells whether the requests of the current thread were aborted by cancelling their future.
+     *
+     * @return {@code true} if a call made through {@link #sendFor(CompletableFuture, Supplier)} was cancelled
+     */
+    public static boolean isCancelled() {
+        CompletableFuture<?> owner = OWNER.get();
+        return owner != null && owner.isCancelled();
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        CompletableFuture<?> owner = OWNER.get();
+        if (owner != null && request instanceof Cancellable cancellable) {
+            owner.whenComplete((value, failure) -> {
+                if (owner.isCancelled()) {
+                    cancellable.cancel();
+                }
+            });
+        }
+        return request;
+    }
+}
@@ -0,0 +1,21 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Record representing a page of a list endpoint of an external API, such as {@code /pokemon?limit=}.
+ * This record is used to deserialize JSON data into a Java object.
+ * The {@link JsonIgnoreProperties} annotation ensures that any unknown properties
+ * in the JSON response are ignored during the deserialization process.
+ *
+ * @param count the total number of resources available
+ * @param results the list of {@link NamedResourceResponse} objects in this page
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NamedResourceListResponse(
+        int count,
+        List<NamedResourceResponse> results
+) {
+}
@@ -0,0 +1,19 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Record representing a named resource listed by an external API endpoint.
+ * This record is used to deserialize JSON data into a Java object.
+ * The {@link JsonIgnoreProperties} annotation ensures that any unknown properties
+ * in the JSON response are ignored during the deserialization process.
+ *
+ * @param name the name of the resource
+ * @param url the URL providing the details of the resource
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NamedResourceResponse(
+        String name,
+        String url
+) {
+}
@@ -0,0 +1,71 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.infrastructure.configuration.UpstreamProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Client for listing the Pokémon known by an external Pokémon API.
+ */
+@Component
+public class PokemonCatalog {
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+
+    /**
+     * Constructs a new {@link PokemonCatalog}.
+     *
+     * @param restTemplate the {@link RestTemplate} used for HTTP requests to the Pokémon API
+     * @param properties   the {@link UpstreamProperties} holding the API location
+     */
+    public PokemonCatalog(
+            RestTemplate restTemplate,
+            UpstreamProperties properties
+    ) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = properties.baseUrl();
+    }
+
+    /**
+     * Lists the names of the Pokémon, in Pokédex order.
+     *
+     * @param limit the maximum number of names to list
+     * @return the names of at most {@code limit} Pokémon
+     * @throws java.util.NoSuchElementException if the API returns an empty body
+     */
+    public List<String> pokemonNames(int limit) {
+        return pokemon(limit).results()
+                             .stream()
+                             .map(NamedResourceResponse::name)
+                             .toList();
+    }
+
+    /**
+     * Lists the Pokémon, in Pokédex order, along with the total number of Pokémon known by the API.
+     *
+     * @param limit the maximum number of Pokémon to list
+     * @return the listed Pokémon; the list is complete when it holds {@code count} of them
+     * @throws java.util.NoSuchElementException if the API returns an empty body
+     */
+    public NamedResourceListResponse pokemon(int limit) {
+        return Optional.ofNullable(restTemplate.getForObject(
+                               baseUrl + "/pokemon?limit={limit}",
+                               NamedResourceListResponse.class,
+                               limit
+                       ))
+                       .orElseThrow();
+    }
+
+    /**
+     * Builds the URL of an ability, as reported in the Pokémon responses of the API.
+     *
+     * @param id the identifier of the ability
+     * @return the URL of the ability
+     */
+    public String abilityUrl(int id) {
+        return baseUrl + "/ability/" + id + "/";
+    }
+}
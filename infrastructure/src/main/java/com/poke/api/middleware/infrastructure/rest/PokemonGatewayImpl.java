@@ -1,35 +1,74 @@
 package com.poke.api.middleware.infrastructure.rest;
 
 import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.application.SingleFlight;
 import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.configuration.UpstreamProperties;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Implementation of the {@link PokemonGateway} interface for interacting with an external Pokémon API.
  * This service uses a {@link RestTemplate} to perform HTTP requests to the API and map the responses
  * into domain objects.
+ * It is active unless {@code poke-api.upstream.client} selects the {@link ReactivePokemonGateway}.
  */
 @Service
+@Qualifier("upstream")
+@ConditionalOnProperty(prefix = "poke-api.upstream", name = "client", havingValue = "blocking", matchIfMissing = true)
 public class PokemonGatewayImpl implements PokemonGateway {
     private final RestTemplate restTemplate;
+    private final AbilityClient abilityClient;
+    private final SingleFlight<String, AbilityResponse> abilityLookups = new SingleFlight<>();
+    private final String baseUrl;
+    private final Duration fanOutTimeout;
+    private final Timer gatewayTimer;
+    private final Timer mapperTimer;
+    private final DistributionSummary fanOutSize;
 
     /**
      * Constructs a new {@link PokemonGatewayImpl} with the specified {@link RestTemplate}.
      *
-     * @param restTemplate the {@link RestTemplate} used for HTTP requests to the Pokémon API
+     * @param restTemplate  the {@link RestTemplate} used for HTTP requests to the Pokémon API
+     * @param abilityClient the {@link AbilityClient} used to fetch, and cache, the abilities of a Pokémon concurrently
+     * @param properties    the {@link UpstreamProperties} holding the API location and fan-out settings
+     * @param meterRegistry the {@link MeterRegistry} on which the gateway and mapper stages are timed
      */
-    public PokemonGatewayImpl(RestTemplate restTemplate) {
+    public PokemonGatewayImpl(
+            RestTemplate restTemplate,
+            AbilityClient abilityClient,
+            UpstreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
         this.restTemplate = restTemplate;
+        this.abilityClient = abilityClient;
+        this.baseUrl = properties.baseUrl();
+        this.fanOutTimeout = properties.fanOut().timeout();
+        this.gatewayTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.GATEWAY);
+        this.mapperTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.MAPPER);
+        this.fanOutSize = PipelineMetrics.fanOut(meterRegistry);
     }
 
     /**
      * Finds a {@link Pokemon} by its name by querying an external Pokémon API.
-     * This method retrieves the basic Pokémon data and maps the associated abilities by making
-     * additional API calls.
+     * This method retrieves the basic Pokémon data and then fetches all of its abilities concurrently
+     * through the {@link AbilityClient}, keeping them in the order reported by the API.
+     * Concurrent lookups of the same ability, such as those of a batch search, share a single fetch.
      *
      * @param name the name of the Pokémon to find
      * @return an {@link Optional} containing the {@link Pokemon} object if found, or empty if not
@@ -37,27 +76,62 @@ public class PokemonGatewayImpl implements PokemonGateway {
      */
     @Override
     public Optional<Pokemon> findByName(String name) {
+        return gatewayTimer.record(() -> fetch(name));
+    }
+
+    private Optional<Pokemon> fetch(String name) {
         Optional<PokemonResponse> response = Optional.ofNullable(restTemplate.getForObject(
-                "https://pokeapi.co/api/v2/pokemon/" + name,
+                baseUrl + "/pokemon/" + name,
                 PokemonResponse.class
         ));
 
-        List<AbilityResponse> abilityResponseList = response.orElseThrow()
-                                                            .abilities()
-                                                            .stream()
-                                                            .map(a -> {
-                                                                Optional<AbilityResponse> abilityResponse = Optional.ofNullable(restTemplate.getForObject(
-                                                                        a.ability().url(),
-                                                                        AbilityResponse.class
-                                                                ));
+        List<AbilityResponse> abilityResponseList = fetchAbilities(response.orElseThrow()
+                                                                           .abilities());
 
-                                                                return abilityResponse.orElseThrow();
-                                                            })
-                                                            .toList();
-
-        return response.map(pokemonResponse -> PokemonMapper.map(
+        return response.map(pokemonResponse -> mapperTimer.record(() -> PokemonMapper.map(
                 pokemonResponse,
                 abilityResponseList
-        ));
+        )));
+    }
+
+    /**
+     * Fetches every ability concurrently and waits for all of them within the fan-out deadline.
+     *
+     * @param abilities the abilities listed in the Pokémon response
+     * @return the fetched abilities, in the same order as {@code abilities}
+     * @throws ResourceAccessException if the lookups do not finish before the deadline
+     */
+    private List<AbilityResponse> fetchAbilities(List<PokemonAbilityResponse> abilities) {
+        fanOutSize.record(abilities.size());
+        List<CompletableFuture<AbilityResponse>> futures = abilities.stream()
+                                                                    .map(a -> fetchAbility(a.ability().url()))
+                                                                    .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                             .get(fanOutTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ResourceAccessException("Ability lookups did not finish within " + fanOutTimeout);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for ability lookups");
+        }
+
+        return futures.stream()
+                      .map(CompletableFuture::join)
+                      .toList();
+    }
+
+    private CompletableFuture<AbilityResponse> fetchAbility(String url) {
+        return abilityLookups.executeAsync(
+                url,
+                () -> abilityClient.fetchAsync(url)
+        );
     }
 }
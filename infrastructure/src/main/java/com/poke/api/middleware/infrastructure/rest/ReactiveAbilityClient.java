@@ -0,0 +1,135 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.application.RequestHedger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link AbilityClient}.
+ * Abilities are read from, and written to, the same {@code abilityCache} entries as the blocking client,
+ * but through the reactive Redis connection, so neither the cache nor the API calls hold a thread.
+ * Only the calls to the API, made on a cache miss, go through the {@link RequestHedger}; the attempt that lost is
+ * unsubscribed, which aborts its exchange. A failing cache is logged and bypassed, since the API can still answer.
+ */
+@Component
+@ConditionalOnProperty(prefix = "poke-api.upstream", name = "client", havingValue = "reactive")
+public class ReactiveAbilityClient {
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveAbilityClient.class);
+    private static final String ABILITY_CACHE = "abilityCache";
+
+    private final WebClient webClient;
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final RedisCache cache;
+    private final RequestHedger abilityHedger;
+
+    /**
+     * Constructs a new {@link ReactiveAbilityClient}.
+     *
+     * @param webClient         the {@link WebClient} used for HTTP requests to the Pokémon API
+     * @param connectionFactory the {@link ReactiveRedisConnectionFactory} used to reach the {@code abilityCache}
+     * @param cacheManager      the {@link CacheManager} providing the {@code abilityCache} settings
+     * @param abilityHedger     the {@link RequestHedger} duplicating slow calls to the API
+     * @throws IllegalStateException if the {@code abilityCache} is not a {@link RedisCache}
+     */
+    public ReactiveAbilityClient(
+            WebClient webClient,
+            ReactiveRedisConnectionFactory connectionFactory,
+            CacheManager cacheManager,
+            RequestHedger abilityHedger
+    ) {
+        this.webClient = webClient;
+        this.connectionFactory = connectionFactory;
+        this.abilityHedger = abilityHedger;
+
+        Cache abilityCache = cacheManager.getCache(ABILITY_CACHE);
+        if (!(abilityCache instanceof RedisCache redisCache)) {
+            throw new IllegalStateException("The " + ABILITY_CACHE + " must be a RedisCache, found " + abilityCache);
+        }
+        this.cache = redisCache;
+    }
+
+    /**
+     * Fetches an ability by its URL, returning the cached response when available.
+     *
+     * @param url the URL of the ability, as reported in the Pokémon response
+     * @return a {@link Mono} emitting the {@link AbilityResponse} for the given URL,
+     * or failing with a {@link NoSuchElementException} if the API returns an empty body
+     */
+    public Mono<AbilityResponse> fetch(String url) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        ByteBuffer key = configuration.getKeySerializationPair()
+                                      .write(configuration.getKeyPrefixFor(cache.getName()) + url);
+
+        return cached(key).switchIfEmpty(Mono.fromFuture(() -> abilityHedger.callAsync(() -> exchange(url).toFuture()))
+                                             .flatMap(ability -> store(key, url, ability).thenReturn(ability)));
+    }
+
+    /**
+     * Calls the API once; cancelling the future the result is converted to cancels the exchange.
+     */
+    private Mono<AbilityResponse> exchange(String url) {
+        return webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .bodyToMono(AbilityResponse.class)
+                        .switchIfEmpty(Mono.error(NoSuchElementException::new));
+    }
+
+    private Mono<AbilityResponse> cached(ByteBuffer key) {
+        return withConnection(connection -> connection.stringCommands()
+                                                      .get(key.duplicate()))
+                .map(value -> (AbilityResponse) cache.getCacheConfiguration()
+                                                     .getValueSerializationPair()
+                                                     .read(value))
+                .onErrorResume(e -> {
+                    LOG.warn("[step:ability-cache] Could not read {}: {}", cache.getName(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> store(ByteBuffer key, String url, AbilityResponse ability) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        Duration ttl = configuration.getTtlFunction()
+                                    .getTimeToLive(url, ability);
+        ByteBuffer value = configuration.getValueSerializationPair()
+                                        .write(ability);
+
+        return withConnection(connection -> connection.stringCommands()
+                                                      .set(
+                                                              key.duplicate(),
+                                                              value,
+                                                              ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl),
+                                                              SetOption.upsert()
+                                                      ))
+                .then()
+                .onErrorResume(e -> {
+                    LOG.warn("[step:ability-cache] Could not write {}: {}", cache.getName(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private <T> Mono<T> withConnection(Function<ReactiveRedisConnection, Mono<T>> command) {
+        return Mono.usingWhen(
+                Mono.fromSupplier(connectionFactory::getReactiveConnection),
+                command,
+                ReactiveRedisConnection::closeLater
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.application.SingleFlight;
+import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.configuration.UpstreamProperties;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Non-blocking implementation of the {@link PokemonGateway} interface for interacting with an external Pokémon API.
+ * This service uses a {@link WebClient} over Reactor Netty, so no thread waits while the API answers.
+ * It is only active when {@code poke-api.upstream.client} is {@code reactive}.
+ * <p>
+ * Failures are reported with the same exceptions as {@link PokemonGatewayImpl}:
+ * error responses as {@link HttpStatusCodeException} and I/O failures as {@link ResourceAccessException}.
+ */
+@Service
+@Qualifier("upstream")
+@ConditionalOnProperty(prefix = "poke-api.upstream", name = "client", havingValue = "reactive")
+public class ReactivePokemonGateway implements PokemonGateway {
+    private final WebClient webClient;
+    private final ReactiveAbilityClient abilityClient;
+    private final SingleFlight<String, AbilityResponse> abilityLookups = new SingleFlight<>();
+    private final String baseUrl;
+    private final Duration fanOutTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Timer gatewayTimer;
+    private final Timer mapperTimer;
+    private final DistributionSummary fanOutSize;
+
+    /**
+     * Constructs a new {@link ReactivePokemonGateway}.
+     *
+     * @param webClient     the {@link WebClient} used for HTTP requests to the Pokémon API
+     * @param abilityClient the {@link ReactiveAbilityClient} used to fetch, and cache, the abilities of a Pokémon
+     * @param properties    the {@link UpstreamProperties} holding the API location and fan-out settings
+     * @param meterRegistry the {@link MeterRegistry} on which the gateway and mapper stages are timed
+     */
+    public ReactivePokemonGateway(
+            WebClient webClient,
+            ReactiveAbilityClient abilityClient,
+            UpstreamProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = webClient;
+        this.abilityClient = abilityClient;
+        this.baseUrl = properties.baseUrl();
+        this.fanOutTimeout = properties.fanOut().timeout();
+        this.meterRegistry = meterRegistry;
+        this.gatewayTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.GATEWAY);
+        this.mapperTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.MAPPER);
+        this.fanOutSize = PipelineMetrics.fanOut(meterRegistry);
+    }
+
+    /**
+     * Finds a {@link Pokemon} by its name, waiting for {@link #findByNameAsync(String)}.
+     *
+     * @param name the name of the Pokémon to find
+     * @return an {@link Optional} containing the {@link Pokemon} object if found, or empty if not
+     */
+    @Override
+    public Optional<Pokemon> findByName(String name) {
+        try {
+            return findByNameAsync(name).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Finds a {@link Pokemon} by its name without blocking.
+     * The basic Pokémon data is retrieved first, then all of its abilities concurrently,
+     * keeping them in the order reported by the API.
+     * Concurrent lookups of the same ability share a single fetch.
+     *
+     * @param name the name of the Pokémon to find
+     * @return a {@link CompletableFuture} completed with the {@link Pokemon} if found, or empty if not
+     */
+    @Override
+    public CompletableFuture<Optional<Pokemon>> findByNameAsync(String name) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return webClient.get()
+                        .uri(baseUrl + "/pokemon/{name}", name)
+                        .retrieve()
+                        .bodyToMono(PokemonResponse.class)
+                        .flatMap(response -> fetchAbilities(response.abilities())
+                                .map(abilities -> mapperTimer.record(() -> PokemonMapper.map(response, abilities))))
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .onErrorMap(WebClientResponseException.class, ReactivePokemonGateway::toStatusCodeException)
+                        .onErrorMap(WebClientRequestException.class, e -> new ResourceAccessException(e.getMessage()))
+                        .doFinally(signal -> sample.stop(gatewayTimer))
+                        .toFuture();
+    }
+
+    /**
+     * Fetches every ability concurrently within the fan-out deadline.
+     *
+     * @param abilities the abilities listed in the Pokémon response
+     * @return a {@link Mono} emitting the fetched abilities, in the same order as {@code abilities}
+     */
+    private Mono<List<AbilityResponse>> fetchAbilities(List<PokemonAbilityResponse> abilities) {
+        fanOutSize.record(abilities.size());
+        return Flux.fromIterable(abilities)
+                   .flatMapSequential(ability -> fetchAbility(ability.ability().url()))
+                   .collectList()
+                   .timeout(
+                           fanOutTimeout,
+                           Mono.error(() -> new ResourceAccessException("Ability lookups did not finish within " + fanOutTimeout))
+                   );
+    }
+
+    private Mono<AbilityResponse> fetchAbility(String url) {
+        return Mono.fromFuture(() -> abilityLookups.executeAsync(
+                url,
+                () -> abilityClient.fetch(url)
+                                   .toFuture()
+        ));
+    }
+
+    private static HttpStatusCodeException toStatusCodeException(WebClientResponseException e) {
+        if (e.getStatusCode().is4xxClientError()) {
+            return HttpClientErrorException.create(
+                    e.getStatusCode(),
+                    e.getStatusText(),
+                    e.getHeaders(),
+                    e.getResponseBodyAsByteArray(),
+                    null
+            );
+        }
+        return HttpServerErrorException.create(
+                e.getStatusCode(),
+                e.getStatusText(),
+                e.getHeaders(),
+                e.getResponseBodyAsByteArray(),
+                null
+        );
+    }
+}
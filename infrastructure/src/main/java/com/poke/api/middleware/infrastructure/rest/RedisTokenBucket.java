@@ -0,0 +1,147 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.infrastructure.configuration.UpstreamProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket kept in Redis, which every node takes a token from before calling the Pokémon API,
+ * so a burst of cache misses across the cluster stays within the fair-use limits of the API.
+ * <p>
+ * The bucket is refilled and taken from atomically by a Lua script, using the clock of the Redis server,
+ * so nodes with skewed clocks share it fairly. A call finding the bucket empty waits for the next token,
+ * up to a deadline after which it fails with an {@link UpstreamUnavailableException}.
+ * A Redis failure is logged and lets the call through, since the cache outage already costs enough.
+ */
+public class RedisTokenBucket {
+    private static final Logger LOG = LoggerFactory.getLogger(RedisTokenBucket.class);
+    private static final RedisScript<Long> SCRIPT = RedisScript.of(
+            new ClassPathResource("redis/token-bucket.lua"),
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final List<String> keys;
+    private final List<String> args;
+    private final long maxWaitMillis;
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructs a new {@link RedisTokenBucket}.
+     *
+     * @param redisTemplate         the {@link StringRedisTemplate} used by blocking callers
+     * @param reactiveRedisTemplate the {@link ReactiveStringRedisTemplate} used by reactive callers
+     * @param rateLimit             the {@link UpstreamProperties.RateLimit} holding the bucket settings
+     */
+    public RedisTokenBucket(
+            StringRedisTemplate redisTemplate,
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            UpstreamProperties.RateLimit rateLimit
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.keys = List.of(rateLimit.key());
+        this.args = List.of(
+                String.valueOf(rateLimit.capacity()),
+                String.valueOf(rateLimit.tokensPerSecond())
+        );
+        this.maxWaitMillis = rateLimit.maxWait().toMillis();
+    }
+
+    /**
+     * Takes a token, waiting for one if the bucket is empty.
+     *
+     * @throws UpstreamUnavailableException if no token is available within the deadline
+     */
+    public void acquire() {
+        long waited = 0;
+        long wait;
+        while ((wait = tryTake()) > 0) {
+            waited = throttle(waited, wait);
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UpstreamUnavailableException("Interrupted while waiting for the Pokémon API rate limit");
+            }
+        }
+    }
+
+    /**
+     * Takes a token without blocking, waiting for one if the bucket is empty.
+     *
+     * @return a {@link Mono} completing once a token was taken, or failing with an
+     * {@link UpstreamUnavailableException} if no token is available within the deadline
+     */
+    public Mono<Void> acquireAsync() {
+        return acquireAsync(0);
+    }
+
+    /**
+     * Gets the number of calls that had to wait for a token.
+     *
+     * @return the number of throttled calls
+     */
+    public long throttledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Gets the number of calls rejected because no token was available within the deadline.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private Mono<Void> acquireAsync(long waited) {
+        return reactiveRedisTemplate.execute(SCRIPT, keys, args)
+                                    .next()
+                                    .onErrorResume(e -> {
+                                        LOG.warn("[step:upstream-rate-limit] Could not reach the token bucket: {}", e.getMessage());
+                                        return Mono.just(0L);
+                                    })
+                                    .flatMap(wait -> wait > 0
+                                                     ? Mono.delay(Duration.ofMillis(wait))
+                                                           .then(Mono.defer(() -> acquireAsync(throttle(waited, wait))))
+                                                     : Mono.empty());
+    }
+
+    private long tryTake() {
+        try {
+            Long wait = redisTemplate.execute(SCRIPT, keys, args.toArray());
+            return wait == null ? 0 : wait;
+        } catch (RuntimeException e) {
+            LOG.warn("[step:upstream-rate-limit] Could not reach the token bucket: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Accounts for a wait for a token, rejecting the call if it would wait past the deadline.
+     *
+     * @return the total time waited once this wait is over
+     */
+    private long throttle(long waited, long wait) {
+        if (waited + wait > maxWaitMillis) {
+            rejected.increment();
+            throw new UpstreamUnavailableException("The Pokémon API rate limit is exhausted");
+        }
+        if (waited == 0) {
+            throttled.increment();
+        }
+        return waited + wait;
+    }
+}
@@ -0,0 +1,144 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.application.AdaptiveConcurrencyLimiter;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decides whether a call to the external Pokémon API may be made, and learns from the outcome of every call made.
+ * <p>
+ * A call must get through, in order, a circuit breaker, which opens when too many recent calls failed or were slow,
+ * a bulkhead, which caps the number of concurrent calls, and an {@link AdaptiveConcurrencyLimiter}, whose cap shrinks
+ * as the API slows down. A call that does not get through fails right away with an {@link UpstreamUnavailableException},
+ * so no thread waits on an API that cannot answer in time.
+ * <p>
+ * Server errors, {@code 429 Too Many Requests} and I/O failures count as failures; any other response,
+ * including {@code 404 Not Found}, shows the API is healthy. Every call made is counted by its response status.
+ */
+public class UpstreamGuard {
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new {@link UpstreamGuard}.
+     *
+     * @param circuitBreaker the {@link CircuitBreaker} tracking the failures of the API
+     * @param bulkhead       the {@link Bulkhead} capping the number of concurrent calls
+     * @param limiter        the {@link AdaptiveConcurrencyLimiter} adapting that cap to the latency of the API
+     * @param meterRegistry  the {@link MeterRegistry} on which the calls are counted by response status
+     */
+    public UpstreamGuard(
+            CircuitBreaker circuitBreaker,
+            Bulkhead bulkhead,
+            AdaptiveConcurrencyLimiter limiter,
+            MeterRegistry meterRegistry
+    ) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.limiter = limiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Lets a call through, or rejects it.
+     * The returned {@link Permit} must be completed exactly once with the outcome of the call.
+     *
+     * @return the {@link Permit} of the call
+     * @throws UpstreamUnavailableException if the call must not be made
+     */
+    public Permit acquire() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new UpstreamUnavailableException("The Pokémon API is failing; calls are suspended for a while");
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new UpstreamUnavailableException("Too many calls to the Pokémon API are in progress");
+        }
+        if (!limiter.tryAcquire()) {
+            bulkhead.releasePermission();
+            circuitBreaker.releasePermission();
+            throw new UpstreamUnavailableException("The Pokémon API is slowing down; fewer calls are let through");
+        }
+        return new Permit(System.nanoTime());
+    }
+
+    /**
+     * Gets the adaptive concurrency limiter of the guard.
+     *
+     * @return the {@link AdaptiveConcurrencyLimiter}
+     */
+    public AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    /**
+     * The permission of a single call, reporting its outcome back to the guard.
+     * Only the first outcome reported counts.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Reports that the API answered the call.
+         *
+         * @param status the status code of the response
+         */
+        public void onResponse(HttpStatusCode status) {
+            PipelineMetrics.countUpstreamResponse(meterRegistry, String.valueOf(status.value()));
+            if (status.is5xxServerError() || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                fail(new HttpServerErrorException(status));
+                return;
+            }
+            if (completed.compareAndSet(false, true)) {
+                long latency = System.nanoTime() - startNanos;
+                circuitBreaker.onSuccess(latency, TimeUnit.NANOSECONDS);
+                bulkhead.onComplete();
+                limiter.onSuccess(latency);
+            }
+        }
+
+        /**
+         * Reports that the call failed without a usable response.
+         *
+         * @param error the failure
+         */
+        public void onError(Throwable error) {
+            PipelineMetrics.countUpstreamResponse(meterRegistry, "IO_ERROR");
+            fail(error);
+        }
+
+        private void fail(Throwable error) {
+            if (completed.compareAndSet(false, true)) {
+                circuitBreaker.onError(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS, error);
+                bulkhead.onComplete();
+                limiter.onDropped();
+            }
+        }
+
+        /**
+         * Reports that the call was abandoned by the caller, which says nothing about the API.
+         */
+        public void onCancel() {
+            if (completed.compareAndSet(false, true)) {
+                circuitBreaker.releasePermission();
+                bulkhead.onComplete();
+                limiter.onIgnore();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * An {@link ExchangeFilterFunction} that sends every {@link org.springframework.web.reactive.function.client.WebClient}
+ * call to the Pokémon API through the {@link UpstreamGuard}.
+ * A rejected call fails with an {@link UpstreamUnavailableException} without being sent.
+ */
+public class UpstreamGuardFilter implements ExchangeFilterFunction {
+    private final UpstreamGuard guard;
+
+    /**
+     * Constructs a new {@link UpstreamGuardFilter}.
+     *
+     * @param guard the {@link UpstreamGuard} deciding whether each call is made
+     */
+    public UpstreamGuardFilter(UpstreamGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            UpstreamGuard.Permit permit = guard.acquire();
+            return next.exchange(request)
+                       .doOnNext(response -> permit.onResponse(response.statusCode()))
+                       .doOnError(permit::onError)
+                       .doOnCancel(permit::onCancel);
+        });
+    }
+}
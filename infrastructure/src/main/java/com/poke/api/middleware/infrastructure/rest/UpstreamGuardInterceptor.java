@@ -0,0 +1,53 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * A {@link ClientHttpRequestInterceptor} that sends every {@link org.springframework.web.client.RestTemplate} call
+ * to the Pokémon API through the {@link UpstreamGuard}.
+ */
+public class UpstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+    private final UpstreamGuard guard;
+
+    /**
+     * Constructs a new {@link UpstreamGuardInterceptor}.
+     *
+     * @param guard the {@link UpstreamGuard} deciding whether each call is made
+     */
+    public UpstreamGuardInterceptor(UpstreamGuard guard) {
+        this.guard = guard;
+    }
+
+    /**
+     * Makes the call if the guard lets it through, and reports its outcome.
+     * A call aborted through the {@link CancellableRequestFactory} is reported as cancelled, not as failed,
+     * since it says nothing about the API.
+     *
+     * @throws UpstreamUnavailableException if the guard rejects the call
+     */
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution
+    ) throws IOException {
+        UpstreamGuard.Permit permit = guard.acquire();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            permit.onResponse(response.getStatusCode());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (CancellableRequestFactory.isCancelled()) {
+                permit.onCancel();
+            } else {
+                permit.onError(e);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * An {@link ExchangeFilterFunction} that takes a token from the {@link RedisTokenBucket}
+ * before every {@link org.springframework.web.reactive.function.client.WebClient} call to the Pokémon API,
+ * without blocking while it waits for one.
+ */
+public class UpstreamRateLimitFilter implements ExchangeFilterFunction {
+    private final RedisTokenBucket bucket;
+
+    /**
+     * Constructs a new {@link UpstreamRateLimitFilter}.
+     *
+     * @param bucket the {@link RedisTokenBucket} shared by every node calling the API
+     */
+    public UpstreamRateLimitFilter(RedisTokenBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return bucket.acquireAsync()
+                     .then(Mono.defer(() -> next.exchange(request)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * A {@link ClientHttpRequestInterceptor} that takes a token from the {@link RedisTokenBucket}
+ * before every {@link org.springframework.web.client.RestTemplate} call to the Pokémon API.
+ */
+public class UpstreamRateLimitInterceptor implements ClientHttpRequestInterceptor {
+    private final RedisTokenBucket bucket;
+
+    /**
+     * Constructs a new {@link UpstreamRateLimitInterceptor}.
+     *
+     * @param bucket the {@link RedisTokenBucket} shared by every node calling the API
+     */
+    public UpstreamRateLimitInterceptor(RedisTokenBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    /**
+     * Makes the call once a token was taken.
+     *
+     * @throws UpstreamUnavailableException if no token is available within the deadline
+     */
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution
+    ) throws IOException {
+        bucket.acquire();
+        return execution.execute(request, body);
+    }
+}
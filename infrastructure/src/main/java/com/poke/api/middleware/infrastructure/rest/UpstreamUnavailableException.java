@@ -0,0 +1,17 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+/**
+ * Thrown instead of calling the external Pokémon API when the {@link UpstreamGuard} does not let the call through,
+ * because the API is failing or too slow, or because too many calls are already waiting on it.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code UpstreamUnavailableException} with the specified detail message.
+     *
+     * @param message the reason the call was not made
+     */
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
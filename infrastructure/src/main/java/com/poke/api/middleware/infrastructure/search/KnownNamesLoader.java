@@ -0,0 +1,145 @@
+package com.poke.api.middleware.infrastructure.search;
+
+import com.poke.api.middleware.application.KnownPokemonNames;
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.configuration.SearchProperties;
+import com.poke.api.middleware.infrastructure.rest.NamedResourceListResponse;
+import com.poke.api.middleware.infrastructure.rest.NamedResourceResponse;
+import com.poke.api.middleware.infrastructure.rest.PokemonCatalog;
+import com.poke.api.middleware.infrastructure.store.LocalPokemonStore;
+import com.poke.api.middleware.infrastructure.store.PokedexSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Loads every Pokémon name known to the application into the {@link NameIndex} and the {@link KnownPokemonNames}
+ * once it started, and again every {@code refreshInterval}, picking up the Pokémon added to the API.
+ * <p>
+ * Names come from the Pokédex snapshot and the local store, when enabled, and from the list of Pokémon of the API.
+ * The index only ever grows, while the filter of known names is rebuilt from scratch each time and only rejects
+ * unknown names when the API listed every Pokémon it knows.
+ * Loading runs on its own thread, so startup does not wait for it; until it finishes, and whenever a source fails,
+ * both still learn the name of every successful search. A failed load is logged and tried again at the next interval,
+ * so the thread keeps running.
+ */
+public class KnownNamesLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(KnownNamesLoader.class);
+
+    private final NameIndex nameIndex;
+    private final KnownPokemonNames knownNames;
+    private final PokemonCatalog catalog;
+    private final ObjectProvider<PokedexSnapshot> snapshot;
+    private final ObjectProvider<LocalPokemonStore> localStore;
+    private final SearchProperties properties;
+
+    /**
+     * Constructs a new {@link KnownNamesLoader}.
+     *
+     * @param nameIndex  the {@link NameIndex} to fill
+     * @param knownNames the {@link KnownPokemonNames} to rebuild
+     * @param catalog    the {@link PokemonCatalog} listing the Pokémon known by the API
+     * @param snapshot   the provider of the {@link PokedexSnapshot}, if configured
+     * @param localStore the provider of the {@link LocalPokemonStore}, if enabled
+     * @param properties the {@link SearchProperties} holding the loading settings
+     */
+    public KnownNamesLoader(
+            NameIndex nameIndex,
+            KnownPokemonNames knownNames,
+            PokemonCatalog catalog,
+            ObjectProvider<PokedexSnapshot> snapshot,
+            ObjectProvider<LocalPokemonStore> localStore,
+            SearchProperties properties
+    ) {
+        this.nameIndex = nameIndex;
+        this.knownNames = knownNames;
+        this.catalog = catalog;
+        this.snapshot = snapshot;
+        this.localStore = localStore;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts loading the names in the background once the application started.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::run, "known-names-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                LOG.warn("[step:known-names] Could not load the known names, trying again later: {}", e.toString());
+            }
+            try {
+                Thread.sleep(properties.refreshInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Loads the names of every available source, skipping the sources that fail.
+     * A filter built from a complete list is kept until the API lists every Pokémon again.
+     */
+    void load() {
+        Set<String> names = new LinkedHashSet<>();
+        PokedexSnapshot pokedex = snapshot.getIfAvailable();
+        if (pokedex != null) {
+            try {
+                names.addAll(pokedex.names());
+            } catch (RuntimeException e) {
+                LOG.warn("[step:known-names] Could not read the names of the Pokédex snapshot: {}", e.getMessage());
+            }
+        }
+
+        LocalPokemonStore store = localStore.getIfAvailable();
+        if (store != null) {
+            try {
+                store.getAll()
+                     .stream()
+                     .map(Pokemon::getName)
+                     .forEach(names::add);
+            } catch (RuntimeException e) {
+                LOG.warn("[step:known-names] Could not read the names of the local store: {}", e.getMessage());
+            }
+        }
+
+        boolean complete = false;
+        if (properties.loadCatalog()) {
+            try {
+                NamedResourceListResponse listed = catalog.pokemon(properties.catalogLimit());
+                listed.results()
+                      .stream()
+                      .map(NamedResourceResponse::name)
+                      .forEach(names::add);
+                complete = listed.results().size() >= listed.count();
+            } catch (RuntimeException e) {
+                LOG.warn("[step:known-names] Could not list the Pokémon of the API: {}", e.getMessage());
+            }
+        }
+
+        int indexed = nameIndex.addAll(names);
+        if (complete || !knownNames.isComplete()) {
+            knownNames.rebuild(names, complete);
+        }
+        LOG.info(
+                "[step:known-names] Loaded {} names, {} of them new to the search index; unknown names are {}",
+                names.size(),
+                indexed,
+                knownNames.isComplete() ? "rejected" : "searched as usual, since the API did not list every Pokémon"
+        );
+    }
+}
@@ -0,0 +1,369 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * An embedded, append-only, on-disk store of {@link Pokemon}, abilities included, keyed by name.
+ * <p>
+ * The file starts with a magic number followed by records of the form
+ * {@code crc32 | keyLength | valueLength | writtenAt | key | value}, all integers being big-endian.
+ * The key is the lower-cased name in UTF-8; the value holds the id, name and sprite of the Pokémon
+ * followed by the id, name and effect of each ability. {@code writtenAt} is the time the Pokémon was last
+ * fetched, in milliseconds since the epoch, so callers can tell when a stored Pokémon is due for a refresh.
+ * The CRC covers the key and the value, so a record torn by a crash is detected and dropped.
+ * <p>
+ * On opening, the file is memory-mapped and scanned once to build an in-memory index from each key
+ * to the position of its latest value. Reads are positional and lock-free; writes are appended and synced.
+ * Storing a Pokémon that did not change only updates the {@code writtenAt} of its record in place,
+ * so the file only grows when a stored Pokémon changes upstream.
+ * <p>
+ * Files written before records carried {@code writtenAt} are rewritten in the current format on opening,
+ * with every Pokémon marked as written at the epoch, hence due for a refresh.
+ */
+public class LocalPokemonStore implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(LocalPokemonStore.class);
+    private static final int MAGIC_V1 = 0x504B5331;
+    private static final int MAGIC = 0x504B5332;
+    private static final int V1_RECORD_HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final FileChannel channel;
+    private long end;
+
+    private LocalPokemonStore(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a store, creating its file when it does not exist, and loads its index.
+     *
+     * @param file the path of the store file
+     * @return the opened {@link LocalPokemonStore}
+     * @throws IOException if the file cannot be opened or is not a store file
+     */
+    public static LocalPokemonStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        LocalPokemonStore store = new LocalPokemonStore(channel);
+        try {
+            long start = System.nanoTime();
+            store.load();
+            LOG.info("[step:local-store] Loaded {} Pokémon from {} in {} µs",
+                     store.size(), file, (System.nanoTime() - start) / 1_000);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Gets the number of Pokémon in the store.
+     *
+     * @return the number of stored Pokémon
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Gets a stored Pokémon by name, ignoring case and surrounding whitespace.
+     *
+     * @param name the name of the Pokémon
+     * @return an {@link Optional} containing the stored {@link Pokemon}, or empty if it is not stored
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public Optional<Pokemon> get(String name) {
+        return getStored(name).map(StoredPokemon::pokemon);
+    }
+
+    /**
+     * Gets a stored Pokémon by name, ignoring case and surrounding whitespace, with the time it was written.
+     *
+     * @param name the name of the Pokémon
+     * @return an {@link Optional} containing the {@link StoredPokemon}, or empty if it is not stored
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public Optional<StoredPokemon> getStored(String name) {
+        Location location = index.get(key(name));
+        if (location == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new StoredPokemon(decode(read(location)), location.writtenAt()));
+    }
+
+    /**
+     * Gets every stored Pokémon, in no particular order.
+     *
+     * @return the stored {@link Pokemon}
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public List<Pokemon> getAll() {
+        return index.keySet()
+                    .stream()
+                    .map(this::get)
+                    .flatMap(Optional::stream)
+                    .toList();
+    }
+
+    /**
+     * Stores a Pokémon under its name, written at the given time.
+     * When the same Pokémon is already stored, only the time it was written is updated.
+     *
+     * @param pokemon   the {@link Pokemon} to store
+     * @param writtenAt the time the Pokémon was fetched, in milliseconds since the epoch
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public synchronized void put(Pokemon pokemon, long writtenAt) {
+        String key = key(pokemon.getName());
+        Location location = index.get(key);
+        if (location != null && decode(read(location)).equals(pokemon)) {
+            touch(key, location, writtenAt);
+            return;
+        }
+
+        append(key, encode(pokemon), writtenAt);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Builds the index by scanning the mapped file, and drops a torn or corrupted tail left by a crash.
+     */
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            writeMagic();
+            end = Integer.BYTES;
+            return;
+        }
+
+        MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        int magic = size < Integer.BYTES ? 0 : file.getInt();
+        if (magic != MAGIC && magic != MAGIC_V1) {
+            throw new IOException("Not a Pokémon store file");
+        }
+
+        int headerSize = magic == MAGIC ? RECORD_HEADER_SIZE : V1_RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        int position = Integer.BYTES;
+        while (position + headerSize <= size) {
+            int checksum = file.getInt(position);
+            int keyLength = file.getInt(position + Integer.BYTES);
+            int valueLength = file.getInt(position + 2 * Integer.BYTES);
+            long writtenAt = magic == MAGIC ? file.getLong(position + 3 * Integer.BYTES) : 0;
+            int bodyStart = position + headerSize;
+            if (keyLength <= 0 || valueLength < 0 || (long) bodyStart + keyLength + valueLength > size) {
+                break;
+            }
+
+            crc.reset();
+            crc.update(file.slice(bodyStart, keyLength + valueLength));
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            byte[] key = new byte[keyLength];
+            file.get(bodyStart, key);
+            index.put(
+                    new String(key, StandardCharsets.UTF_8),
+                    new Location(position, bodyStart + keyLength, valueLength, writtenAt)
+            );
+            position = bodyStart + keyLength + valueLength;
+        }
+
+        if (position < size) {
+            LOG.warn("[step:local-store] Dropping {} bytes of incomplete or corrupted records", size - position);
+            channel.truncate(position);
+        }
+        end = position;
+
+        if (magic == MAGIC_V1) {
+            upgrade();
+        }
+    }
+
+    /**
+     * Rewrites a file of the first format, whose records have no {@code writtenAt}, in the current format.
+     */
+    private void upgrade() throws IOException {
+        Map<String, byte[]> values = new LinkedHashMap<>();
+        index.forEach((key, location) -> values.put(key, read(location)));
+        LOG.info("[step:local-store] Upgrading the store file format, {} Pokémon marked for a refresh", values.size());
+
+        index.clear();
+        channel.truncate(0);
+        writeMagic();
+        end = Integer.BYTES;
+        values.forEach((key, value) -> append(key, value, 0));
+    }
+
+    private void append(String key, byte[] value, long writtenAt) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(keyBytes);
+        crc.update(value);
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + keyBytes.length + value.length)
+                                      .putInt((int) crc.getValue())
+                                      .putInt(keyBytes.length)
+                                      .putInt(value.length)
+                                      .putLong(writtenAt)
+                                      .put(keyBytes)
+                                      .put(value)
+                                      .flip();
+        try {
+            long position = end;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            channel.force(false);
+            index.put(key, new Location(end, end + RECORD_HEADER_SIZE + keyBytes.length, value.length, writtenAt));
+            end = position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Overwrites the {@code writtenAt} of a record in place. It is outside the CRC, so a torn write cannot
+     * make the record, or the ones after it, look corrupted.
+     */
+    private void touch(String key, Location location, long writtenAt) {
+        ByteBuffer time = ByteBuffer.allocate(Long.BYTES)
+                                    .putLong(writtenAt)
+                                    .flip();
+        try {
+            long position = location.record() + 3 * Integer.BYTES;
+            while (time.hasRemaining()) {
+                channel.write(time, position + time.position());
+            }
+            channel.force(false);
+            index.put(key, new Location(location.record(), location.position(), location.length(), writtenAt));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] read(Location location) {
+        ByteBuffer value = ByteBuffer.allocate(location.length());
+        try {
+            readFully(value, location.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return value.array();
+    }
+
+    private void writeMagic() throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES)
+                                     .putInt(MAGIC)
+                                     .flip();
+        while (magic.hasRemaining()) {
+            channel.write(magic, magic.position());
+        }
+        channel.force(false);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Pokémon store record ends past the end of the file");
+            }
+        }
+    }
+
+    private static byte[] encode(Pokemon pokemon) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(pokemon.getId());
+            writeString(output, pokemon.getName());
+            writeString(output, pokemon.getSprite());
+            output.writeShort(pokemon.getAbilities().size());
+            for (Ability ability : pokemon.getAbilities()) {
+                output.writeInt(ability.getId());
+                writeString(output, ability.getName());
+                writeString(output, ability.getEffect());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Pokemon decode(byte[] value) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(value))) {
+            int id = input.readInt();
+            String name = readString(input);
+            String sprite = readString(input);
+            int count = input.readUnsignedShort();
+            List<Ability> abilities = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                abilities.add(Ability.from(input.readInt(), readString(input), readString(input)));
+            }
+            return Pokemon.from(id, name, sprite, List.copyOf(abilities));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a nullable string as a presence flag followed by its modified UTF-8 form.
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The position of a record in the store file, the position and length of its value, and the time it was written.
+     */
+    private record Location(long record, long position, int length, long writtenAt) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link PokemonGateway} that reads through a {@link LocalPokemonStore}.
+ * Pokémon stored less than {@code ttl} ago are returned without calling the decorated gateway; the others are
+ * looked up through it and stored on the way, so they survive restarts and stay available while the upstream API is down.
+ * A stored Pokémon past its time-to-live is refreshed through the decorated gateway, and still returned when that
+ * lookup fails, so an upstream outage never turns a stored Pokémon into an error.
+ * A store that cannot be written is logged and bypassed.
+ */
+public class LocalStorePokemonGateway implements PokemonGateway {
+    private static final Logger LOG = LoggerFactory.getLogger(LocalStorePokemonGateway.class);
+
+    private final LocalPokemonStore store;
+    private final PokemonGateway delegate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs a new {@link LocalStorePokemonGateway}.
+     *
+     * @param store         the {@link LocalPokemonStore} read before the decorated gateway
+     * @param delegate      the {@link PokemonGateway} used for Pokémon that are not stored or are due for a refresh
+     * @param ttl           how long a stored Pokémon is returned before it is refreshed through the decorated gateway
+     * @param clock         the {@link Clock} used to read the current time
+     * @param meterRegistry the {@link MeterRegistry} on which the store hits and misses are counted
+     */
+    public LocalStorePokemonGateway(
+            LocalPokemonStore store,
+            PokemonGateway delegate,
+            Duration ttl,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.hits = PipelineMetrics.tierLookups(meterRegistry, "store", true);
+        this.misses = PipelineMetrics.tierLookups(meterRegistry, "store", false);
+    }
+
+    @Override
+    public Optional<Pokemon> findByName(String name) {
+        Optional<StoredPokemon> stored = lookup(name);
+        if (stored.isPresent() && isFresh(stored.get())) {
+            return stored.map(StoredPokemon::pokemon);
+        }
+
+        Optional<Pokemon> found;
+        try {
+            found = delegate.findByName(name);
+        } catch (RuntimeException e) {
+            return stale(name, stored, e);
+        }
+        found.ifPresent(this::save);
+        return found;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Pokemon>> findByNameAsync(String name) {
+        Optional<StoredPokemon> stored = lookup(name);
+        if (stored.isPresent() && isFresh(stored.get())) {
+            return CompletableFuture.completedFuture(stored.map(StoredPokemon::pokemon));
+        }
+
+        return delegate.findByNameAsync(name)
+                       .handle((found, failure) -> {
+                           if (failure != null) {
+                               return stale(name, stored, failure);
+                           }
+                           found.ifPresent(this::save);
+                           return found;
+                       });
+    }
+
+    /**
+     * Looks a Pokémon up in the store, counting a stored Pokémon due for a refresh as a miss.
+     */
+    private Optional<StoredPokemon> lookup(String name) {
+        Optional<StoredPokemon> stored = store.getStored(name);
+        (stored.isPresent() && isFresh(stored.get()) ? hits : misses).increment();
+        return stored;
+    }
+
+    private boolean isFresh(StoredPokemon stored) {
+        return clock.millis() - stored.writtenAt() < ttl.toMillis();
+    }
+
+    /**
+     * Falls back to the stored Pokémon when refreshing it failed, or rethrows the failure when nothing is stored.
+     */
+    private Optional<Pokemon> stale(String name, Optional<StoredPokemon> stored, Throwable failure) {
+        if (stored.isEmpty()) {
+            if (failure instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new IllegalStateException(failure);
+        }
+
+        LOG.warn("[step:local-store] Could not refresh {}, returning the stored copy: {}", name, failure.getMessage());
+        return stored.map(StoredPokemon::pokemon);
+    }
+
+    private void save(Pokemon pokemon) {
+        try {
+            store.put(pokemon, clock.millis());
+        } catch (RuntimeException e) {
+            LOG.warn("[step:local-store] Could not store {}: {}", pokemon.getName(), e.getMessage());
+        }
+    }
+}
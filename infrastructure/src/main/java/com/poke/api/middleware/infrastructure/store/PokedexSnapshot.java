@@ -0,0 +1,223 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A read-only Pokédex snapshot, memory-mapped from a file written by {@link PokedexSnapshotWriter}.
+ * <p>
+ * Lookups binary-search the id-sorted Pokémon table or the name index directly in the mapped buffer,
+ * comparing the query with the stored ASCII bytes, so they allocate nothing but the returned {@link Pokemon}.
+ * The snapshot lives outside the Java heap and its pages are shared with the operating system's file cache.
+ * Instances are safe for concurrent use, since the buffer is only read with absolute offsets.
+ */
+public final class PokedexSnapshot {
+    private final ByteBuffer buffer;
+    private final int pokemonCount;
+    private final int abilityTableOffset;
+    private final int pokemonTableOffset;
+    private final int nameIndexOffset;
+
+    private PokedexSnapshot(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < PokedexSnapshotWriter.HEADER_SIZE || buffer.getInt(0) != PokedexSnapshotWriter.MAGIC) {
+            throw new IOException("Not a Pokédex snapshot file");
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != PokedexSnapshotWriter.VERSION) {
+            throw new IOException("Unsupported Pokédex snapshot version " + version);
+        }
+
+        this.buffer = buffer;
+        this.pokemonCount = buffer.getInt(2 * Integer.BYTES);
+        int abilityCount = buffer.getInt(3 * Integer.BYTES);
+        this.abilityTableOffset = PokedexSnapshotWriter.HEADER_SIZE;
+        this.pokemonTableOffset = abilityTableOffset + abilityCount * PokedexSnapshotWriter.ABILITY_ENTRY_SIZE;
+        this.nameIndexOffset = pokemonTableOffset + pokemonCount * PokedexSnapshotWriter.POKEMON_ENTRY_SIZE;
+    }
+
+    /**
+     * Maps a snapshot file into memory.
+     *
+     * @param file the path of the snapshot file
+     * @return the mapped {@link PokedexSnapshot}
+     * @throws IOException if the file cannot be mapped or is not a snapshot file
+     */
+    public static PokedexSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new PokedexSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Gets the number of Pokémon in the snapshot.
+     *
+     * @return the number of Pokémon
+     */
+    public int size() {
+        return pokemonCount;
+    }
+
+    /**
+     * Lists the names of every Pokémon in the snapshot, in id order.
+     *
+     * @return the names of the Pokémon
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>(pokemonCount);
+        for (int slot = 0; slot < pokemonCount; slot++) {
+            names.add(readString(buffer.getInt(pokemonEntry(slot) + Integer.BYTES)));
+        }
+        return names;
+    }
+
+    /**
+     * Finds a Pokémon by name, ignoring case and surrounding whitespace, or by id when the name is a number,
+     * as the Pokémon API does.
+     *
+     * @param name the name or the id of the Pokémon
+     * @return an {@link Optional} containing the {@link Pokemon}, or empty if it is not in the snapshot
+     */
+    public Optional<Pokemon> findByName(String name) {
+        int from = 0;
+        int to = name.length();
+        while (from < to && Character.isWhitespace(name.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(name.charAt(to - 1))) {
+            to--;
+        }
+
+        int id = parseId(name, from, to);
+        if (id >= 0) {
+            return findById(id);
+        }
+
+        int low = 0;
+        int high = pokemonCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int slot = buffer.getInt(nameIndexOffset + middle * PokedexSnapshotWriter.NAME_ENTRY_SIZE);
+            int comparison = compare(buffer.getInt(pokemonEntry(slot) + Integer.BYTES), name, from, to);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(readPokemon(slot));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds a Pokémon by id.
+     *
+     * @param id the id of the Pokémon
+     * @return an {@link Optional} containing the {@link Pokemon}, or empty if it is not in the snapshot
+     */
+    public Optional<Pokemon> findById(int id) {
+        int low = 0;
+        int high = pokemonCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = buffer.getInt(pokemonEntry(middle));
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return Optional.of(readPokemon(middle));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int pokemonEntry(int slot) {
+        return pokemonTableOffset + slot * PokedexSnapshotWriter.POKEMON_ENTRY_SIZE;
+    }
+
+    private int abilityEntry(int slot) {
+        return abilityTableOffset + slot * PokedexSnapshotWriter.ABILITY_ENTRY_SIZE;
+    }
+
+    private Pokemon readPokemon(int slot) {
+        int entry = pokemonEntry(slot);
+        int abilitiesReference = buffer.getInt(entry + 3 * Integer.BYTES);
+        int abilityCount = buffer.getInt(abilitiesReference);
+        List<Ability> abilities = new ArrayList<>(abilityCount);
+        for (int i = 0; i < abilityCount; i++) {
+            int abilitySlot = buffer.getInt(abilitiesReference + (i + 1) * Integer.BYTES);
+            int abilityEntry = abilityEntry(abilitySlot);
+            abilities.add(Ability.from(
+                    buffer.getInt(abilityEntry),
+                    readString(buffer.getInt(abilityEntry + Integer.BYTES)),
+                    readString(buffer.getInt(abilityEntry + 2 * Integer.BYTES))
+            ));
+        }
+
+        return Pokemon.from(
+                buffer.getInt(entry),
+                readString(buffer.getInt(entry + Integer.BYTES)),
+                readString(buffer.getInt(entry + 2 * Integer.BYTES)),
+                abilities
+        );
+    }
+
+    private String readString(int reference) {
+        if (reference < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[buffer.getInt(reference)];
+        buffer.get(reference + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares a stored ASCII name with {@code name[from, to)} lower-cased, in the order of the name index.
+     */
+    private int compare(int reference, String name, int from, int to) {
+        int length = buffer.getInt(reference);
+        int queryLength = to - from;
+        int common = Math.min(length, queryLength);
+        for (int i = 0; i < common; i++) {
+            int stored = buffer.get(reference + Integer.BYTES + i) & 0xFF;
+            int query = Character.toLowerCase(name.charAt(from + i));
+            if (stored != query) {
+                return stored - query;
+            }
+        }
+        return length - queryLength;
+    }
+
+    /**
+     * Parses {@code name[from, to)} as a Pokémon id.
+     *
+     * @return the id, or {@code -1} if the text is not a number
+     */
+    private static int parseId(String name, int from, int to) {
+        if (from == to || to - from > 9) {
+            return -1;
+        }
+
+        int id = 0;
+        for (int i = from; i < to; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+}
@@ -0,0 +1,164 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiles Pokémon, abilities included, into the read-only file format of {@link PokedexSnapshot}.
+ * <p>
+ * All integers are big-endian. The file is made of:
+ * <ul>
+ *     <li>a header: magic number, version, Pokémon count, ability count and heap offset;</li>
+ *     <li>the ability table, sorted by id, with {@code id | nameRef | effectRef} per ability;</li>
+ *     <li>the Pokémon table, sorted by id, with {@code id | nameRef | spriteRef | abilitiesRef} per Pokémon;</li>
+ *     <li>the name index: the Pokémon table slots sorted by lower-cased name;</li>
+ *     <li>the heap: strings as {@code length | UTF-8 bytes} and ability lists as {@code count | ability slots}.</li>
+ * </ul>
+ * References are absolute file offsets into the heap, or {@code -1} for a missing string.
+ * Names must be ASCII, which lets lookups compare the query with the heap bytes without decoding them.
+ */
+public final class PokedexSnapshotWriter {
+    static final int MAGIC = 0x504B4431;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 5 * Integer.BYTES;
+    static final int ABILITY_ENTRY_SIZE = 3 * Integer.BYTES;
+    static final int POKEMON_ENTRY_SIZE = 4 * Integer.BYTES;
+    static final int NAME_ENTRY_SIZE = Integer.BYTES;
+
+    private PokedexSnapshotWriter() {
+    }
+
+    /**
+     * Writes a snapshot of the given Pokémon, replacing the target file atomically.
+     * When several Pokémon have the same name, the last one is kept.
+     *
+     * @param pokemon the {@link Pokemon} to write
+     * @param file    the path of the snapshot file
+     * @throws IOException              if the file cannot be written
+     * @throws IllegalArgumentException if a Pokémon name is not ASCII
+     */
+    public static void write(Collection<Pokemon> pokemon, Path file) throws IOException {
+        Map<String, Pokemon> byName = new LinkedHashMap<>();
+        for (Pokemon entry : pokemon) {
+            String name = entry.getName().toLowerCase(Locale.ROOT);
+            if (!StandardCharsets.US_ASCII.newEncoder().canEncode(name)) {
+                throw new IllegalArgumentException("Pokémon names must be ASCII: " + entry.getName());
+            }
+            byName.put(name, entry);
+        }
+
+        List<Pokemon> pokemonById = new ArrayList<>(byName.values());
+        pokemonById.sort(Comparator.comparingInt(Pokemon::getId));
+
+        Map<Integer, Ability> abilityById = new TreeMap<>();
+        pokemonById.forEach(entry -> entry.getAbilities().forEach(ability -> abilityById.put(ability.getId(), ability)));
+        List<Ability> abilities = new ArrayList<>(abilityById.values());
+        Map<Integer, Integer> abilitySlots = new HashMap<>();
+        for (int slot = 0; slot < abilities.size(); slot++) {
+            abilitySlots.put(abilities.get(slot).getId(), slot);
+        }
+
+        int heapOffset = HEADER_SIZE
+                + abilities.size() * ABILITY_ENTRY_SIZE
+                + pokemonById.size() * (POKEMON_ENTRY_SIZE + NAME_ENTRY_SIZE);
+        Heap heap = new Heap(heapOffset);
+
+        ByteArrayOutputStream tables = new ByteArrayOutputStream(heapOffset);
+        DataOutputStream output = new DataOutputStream(tables);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(pokemonById.size());
+        output.writeInt(abilities.size());
+        output.writeInt(heapOffset);
+
+        for (Ability ability : abilities) {
+            output.writeInt(ability.getId());
+            output.writeInt(heap.string(ability.getName()));
+            output.writeInt(heap.string(ability.getEffect()));
+        }
+
+        for (Pokemon entry : pokemonById) {
+            output.writeInt(entry.getId());
+            output.writeInt(heap.string(entry.getName().toLowerCase(Locale.ROOT)));
+            output.writeInt(heap.string(entry.getSprite()));
+            output.writeInt(heap.abilities(entry.getAbilities(), abilitySlots));
+        }
+
+        List<Integer> nameIndex = new ArrayList<>();
+        for (int slot = 0; slot < pokemonById.size(); slot++) {
+            nameIndex.add(slot);
+        }
+        nameIndex.sort(Comparator.comparing(slot -> pokemonById.get(slot).getName().toLowerCase(Locale.ROOT)));
+        for (int slot : nameIndex) {
+            output.writeInt(slot);
+        }
+        output.flush();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temporary)) {
+            tables.writeTo(stream);
+            heap.bytes.writeTo(stream);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * The heap section being written, handing out the absolute offsets of what it holds.
+     * Identical strings are stored once.
+     */
+    private static final class Heap {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        private final DataOutputStream output = new DataOutputStream(bytes);
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final int offset;
+
+        private Heap(int offset) {
+            this.offset = offset;
+        }
+
+        private int string(String value) throws IOException {
+            if (value == null) {
+                return -1;
+            }
+
+            Integer existing = strings.get(value);
+            if (existing != null) {
+                return existing;
+            }
+
+            int reference = offset + output.size();
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(utf8.length);
+            output.write(utf8);
+            strings.put(value, reference);
+            return reference;
+        }
+
+        private int abilities(List<Ability> abilities, Map<Integer, Integer> slots) throws IOException {
+            int reference = offset + output.size();
+            output.writeInt(abilities.size());
+            for (Ability ability : abilities) {
+                output.writeInt(slots.get(ability.getId()));
+            }
+            return reference;
+        }
+    }
+}
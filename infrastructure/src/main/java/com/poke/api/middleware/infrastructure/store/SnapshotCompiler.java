@@ -0,0 +1,46 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.domain.Pokemon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command-line tool compiling a {@link LocalPokemonStore} file into a {@link PokedexSnapshot} file.
+ * The local store is used as the source since it keeps the Pokémon ids, which search results leave out;
+ * fill it by running the application with the local store and the cache warm-up enabled.
+ * <p>
+ * Usage: {@code ./gradlew :infrastructure:compileSnapshot -Pstore=data/pokemon.store -Psnapshot=data/pokedex.snapshot}
+ */
+public final class SnapshotCompiler {
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotCompiler.class);
+
+    private SnapshotCompiler() {
+    }
+
+    /**
+     * Compiles the snapshot.
+     *
+     * @param args the path of the local store file, then the path of the snapshot file to write
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: SnapshotCompiler <local store file> <snapshot file>");
+        }
+
+        Path storeFile = Path.of(args[0]);
+        Path snapshotFile = Path.of(args[1]);
+        List<Pokemon> pokemon;
+        try (LocalPokemonStore store = LocalPokemonStore.open(storeFile)) {
+            pokemon = store.getAll();
+        }
+
+        PokedexSnapshotWriter.write(pokemon, snapshotFile);
+        LOG.info("[step:snapshot] Compiled {} Pokémon from {} into {}",
+                 PokedexSnapshot.open(snapshotFile).size(), storeFile, snapshotFile);
+    }
+}
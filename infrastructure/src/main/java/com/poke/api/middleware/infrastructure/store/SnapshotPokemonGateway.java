@@ -0,0 +1,58 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.domain.Pokemon;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link PokemonGateway} that serves Pokémon from a memory-mapped {@link PokedexSnapshot}.
+ * Pokémon missing from the snapshot, such as those released after it was compiled,
+ * are looked up through the decorated gateway.
+ */
+public class SnapshotPokemonGateway implements PokemonGateway {
+    private final PokedexSnapshot snapshot;
+    private final PokemonGateway delegate;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs a new {@link SnapshotPokemonGateway}.
+     *
+     * @param snapshot the {@link PokedexSnapshot} read before the decorated gateway
+     * @param delegate      the {@link PokemonGateway} used for Pokémon missing from the snapshot
+     * @param meterRegistry the {@link MeterRegistry} on which the snapshot hits and misses are counted
+     */
+    public SnapshotPokemonGateway(
+            PokedexSnapshot snapshot,
+            PokemonGateway delegate,
+            MeterRegistry meterRegistry
+    ) {
+        this.snapshot = snapshot;
+        this.delegate = delegate;
+        this.hits = PipelineMetrics.tierLookups(meterRegistry, "snapshot", true);
+        this.misses = PipelineMetrics.tierLookups(meterRegistry, "snapshot", false);
+    }
+
+    @Override
+    public Optional<Pokemon> findByName(String name) {
+        Optional<Pokemon> pokemon = lookup(name);
+        return pokemon.isPresent() ? pokemon : delegate.findByName(name);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Pokemon>> findByNameAsync(String name) {
+        Optional<Pokemon> pokemon = lookup(name);
+        return pokemon.isPresent() ? CompletableFuture.completedFuture(pokemon) : delegate.findByNameAsync(name);
+    }
+
+    private Optional<Pokemon> lookup(String name) {
+        Optional<Pokemon> pokemon = snapshot.findByName(name);
+        (pokemon.isPresent() ? hits : misses).increment();
+        return pokemon;
+    }
+}
@@ -0,0 +1,15 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.domain.Pokemon;
+
+/**
+ * Record holding a {@link Pokemon} read from a {@link LocalPokemonStore} with the time it was written.
+ *
+ * @param pokemon   the stored {@link Pokemon}
+ * @param writtenAt the time the Pokémon was last fetched, in milliseconds since the epoch
+ */
+public record StoredPokemon(
+        Pokemon pokemon,
+        long writtenAt
+) {
+}
@@ -0,0 +1,90 @@
+package com.poke.api.middleware.infrastructure.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs work inside a tracing span that is a child of the current one, so it shows up in the trace of the request.
+ * Failures are recorded on the span before it ends.
+ */
+public final class Spans {
+    /**
+     * The span tag holding the requested Pokémon name.
+     */
+    public static final String POKEMON_NAME = "pokemon.name";
+
+    private Spans() {
+    }
+
+    /**
+     * Runs blocking work in a new span.
+     *
+     * @param tracer  the {@link Tracer} creating the span
+     * @param name    the name of the span
+     * @param pokemon the requested Pokémon name, tagged on the span
+     * @param work    the work to run while the span is current
+     * @param <T>     the type of the work result
+     * @return the result of the work
+     */
+    public static <T> T inSpan(
+            Tracer tracer,
+            String name,
+            String pokemon,
+            Supplier<T> work
+    ) {
+        Span span = start(tracer, name, pokemon);
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return work.get();
+        } catch (RuntimeException | Error e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Starts asynchronous work in a new span, which ends when the work completes.
+     * The work is started while the span is current, so the spans it creates, even on other threads, are its children.
+     *
+     * @param tracer  the {@link Tracer} creating the span
+     * @param name    the name of the span
+     * @param pokemon the requested Pokémon name, tagged on the span
+     * @param work    starts the work while the span is current
+     * @param <T>     the type of the work result
+     * @return the {@link CompletableFuture} returned by {@code work}
+     */
+    public static <T> CompletableFuture<T> inSpanAsync(
+            Tracer tracer,
+            String name,
+            String pokemon,
+            Supplier<CompletableFuture<T>> work
+    ) {
+        Span span = start(tracer, name, pokemon);
+        CompletableFuture<T> result;
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            span.error(e);
+            span.end();
+            throw e;
+        }
+        result.whenComplete((value, failure) -> {
+            if (failure != null) {
+                span.error(failure);
+            }
+            span.end();
+        });
+        return result;
+    }
+
+    private static Span start(Tracer tracer, String name, String pokemon) {
+        return tracer.nextSpan()
+                     .name(name)
+                     .tag(POKEMON_NAME, pokemon)
+                     .start();
+    }
+}
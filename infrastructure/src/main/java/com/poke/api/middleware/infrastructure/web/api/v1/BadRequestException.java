@@ -0,0 +1,17 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+/**
+ * Thrown when a request does not respect the limits of an endpoint, such as the number of names
+ * of a batch search, and must be answered with {@code 400 Bad Request}.
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code BadRequestException} with the specified detail message.
+     *
+     * @param message the limit the request broke
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.poke.api.middleware.application.ErrorDTO;
+import com.poke.api.middleware.application.PokemonOutput;
+
+/**
+ * Record representing the result of a single name in a batch search.
+ * Exactly one of {@code pokemon} and {@code error} is present.
+ *
+ * @param name    the requested name
+ * @param pokemon the Pokémon found for the name, if the search succeeded
+ * @param error   the error details, if the search failed
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PokemonBatchItem(
+        String name,
+        PokemonOutput pokemon,
+        ErrorDTO error
+) {
+
+    /**
+     * Factory method for a name whose search succeeded.
+     *
+     * @param name    the requested name
+     * @param pokemon the Pokémon found for the name
+     * @return a new {@link PokemonBatchItem} holding the Pokémon
+     */
+    public static PokemonBatchItem found(String name, PokemonOutput pokemon) {
+        return new PokemonBatchItem(name, pokemon, null);
+    }
+
+    /**
+     * Factory method for a name whose search failed.
+     *
+     * @param name  the requested name
+     * @param error the error details
+     * @return a new {@link PokemonBatchItem} holding the error
+     */
+    public static PokemonBatchItem failed(String name, ErrorDTO error) {
+        return new PokemonBatchItem(name, null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+/**
+ * Record holding the final HTTP response body of a Pokémon search.
+ *
+ * @param json     the JSON body
+ * @param gzip     the gzip-compressed JSON body, or {@code null} when the body is too small to be compressed
+ * @param etag     the strong entity tag of the JSON body, including its quotes
+ * @param gzipEtag the strong entity tag of the gzip-compressed body, including its quotes,
+ *                 or {@code null} when the body is not compressed
+ */
+public record PokemonBody(
+        byte[] json,
+        byte[] gzip,
+        String etag,
+        String gzipEtag
+) {
+}
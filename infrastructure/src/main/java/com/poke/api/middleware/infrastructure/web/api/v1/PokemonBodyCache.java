@@ -0,0 +1,188 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.cache.NearCacheInvalidationListener;
+import com.poke.api.middleware.infrastructure.cache.SoftTtlCache;
+import com.poke.api.middleware.infrastructure.cache.SoftTtlEntry;
+import com.poke.api.middleware.infrastructure.cache.TwoTierCache;
+import com.poke.api.middleware.infrastructure.cache.TwoTierCacheManager;
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-process cache of rendered Pokémon search responses, keyed like the {@code pokemonCache} by the normalized name.
+ * Each entry is the final response body, serialized once and, when it is large enough for
+ * {@code server.compression}, also gzip-compressed once, so a hit needs no object mapping at all.
+ * The compressed body gets its own entity tag, since it is a different representation of the same response.
+ * Entries expire with the near cache, and are dropped whenever the {@code pokemonCache} entry they render changes,
+ * on this node or on another one, as announced by the {@link TwoTierCacheManager}.
+ * A write on this node only drops the body when the content hash of the value written differs from the body's,
+ * so storing the result a body was rendered from keeps the body; a body rendered from a result that a newer
+ * entry already replaced is not kept.
+ */
+@Component
+public class PokemonBodyCache implements NearCacheInvalidationListener {
+    private final Cache<String, PokemonBody> bodies;
+    private final Cache<String, Object> entries;
+    private final ObjectMapper objectMapper;
+    private final boolean compress;
+    private final long minCompressedSize;
+    private final Timer serializationTimer;
+
+    /**
+     * Constructs a new {@link PokemonBodyCache}.
+     *
+     * @param objectMapper       the {@link ObjectMapper} used to render the responses
+     * @param serverProperties   the {@link ServerProperties} holding the response compression settings
+     * @param cachingProperties  the {@link CachingProperties} holding the near cache settings
+     * @param cacheManager       the {@link CacheManager} announcing the changes to the {@code pokemonCache}
+     * @param meterRegistry      the {@link MeterRegistry} on which the cache metrics and the serialization stage are registered
+     */
+    public PokemonBodyCache(
+            ObjectMapper objectMapper,
+            ServerProperties serverProperties,
+            CachingProperties cachingProperties,
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.compress = serverProperties.getCompression().getEnabled();
+        this.minCompressedSize = serverProperties.getCompression().getMinResponseSize().toBytes();
+        this.bodies = Caffeine.newBuilder()
+                              .maximumSize(cachingProperties.near().maximumSize())
+                              .expireAfterWrite(cachingProperties.near().expireAfterWrite())
+                              .recordStats()
+                              .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bodies, "pokemonCache.body");
+        this.serializationTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.SERIALIZATION);
+        if (cacheManager instanceof TwoTierCacheManager twoTierCacheManager) {
+            twoTierCacheManager.addInvalidationListener(this);
+        }
+        this.entries = nearCache(cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE));
+    }
+
+    /**
+     * Gets the rendered response for a name, if it is cached.
+     *
+     * @param name the requested name
+     * @return the rendered {@link PokemonBody}, or {@code null} if it is not cached
+     */
+    public PokemonBody getIfPresent(String name) {
+        return bodies.getIfPresent(CachedPokemonSearch.key(name));
+    }
+
+    /**
+     * Renders and caches the response for a name.
+     * The body is not kept when the {@code pokemonCache} already holds a different result for the name.
+     *
+     * @param name   the requested name
+     * @param output the {@link PokemonOutput} found for the name
+     * @return the rendered {@link PokemonBody}
+     */
+    public PokemonBody put(String name, PokemonOutput output) {
+        PokemonBody body = serializationTimer.record(() -> render(output));
+        String key = CachedPokemonSearch.key(name);
+        bodies.put(key, body);
+
+        String hash = entries != null ? contentHash(entries.getIfPresent(key)) : null;
+        if (hash != null && !renders(body, hash)) {
+            bodies.asMap().remove(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Drops the rendered response of a name whose {@code pokemonCache} entry changed.
+     */
+    @Override
+    public void onEvict(String cacheName, String key) {
+        if (CachedPokemonSearch.POKEMON_CACHE.equals(cacheName)) {
+            bodies.invalidate(key);
+        }
+    }
+
+    /**
+     * Drops the rendered response of a name whose {@code pokemonCache} entry was written on this node,
+     * unless it renders the value written.
+     */
+    @Override
+    public void onPut(String cacheName, String key, Object value) {
+        if (CachedPokemonSearch.POKEMON_CACHE.equals(cacheName)) {
+            String hash = contentHash(value);
+            bodies.asMap().computeIfPresent(key, (name, body) -> hash != null && renders(body, hash) ? body : null);
+        }
+    }
+
+    /**
+     * Drops every rendered response when the {@code pokemonCache} is cleared.
+     */
+    @Override
+    public void onClear(String cacheName) {
+        if (CachedPokemonSearch.POKEMON_CACHE.equals(cacheName)) {
+            bodies.invalidateAll();
+        }
+    }
+
+    private static boolean renders(PokemonBody body, String contentHash) {
+        return body.etag().equals("\"" + contentHash + "\"");
+    }
+
+    private static String contentHash(Object value) {
+        return value instanceof SoftTtlEntry entry ? entry.contentHash() : null;
+    }
+
+    /**
+     * Finds the near cache of the {@code pokemonCache}, through which the entry a body was rendered from is checked.
+     */
+    private static Cache<String, Object> nearCache(org.springframework.cache.Cache cache) {
+        org.springframework.cache.Cache delegate = cache instanceof SoftTtlCache softTtlCache
+                                                   ? softTtlCache.getDelegate()
+                                                   : cache;
+        return delegate instanceof TwoTierCache twoTierCache ? twoTierCache.getNearCache() : null;
+    }
+
+    private PokemonBody render(PokemonOutput output) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(output);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render " + output.name(), e);
+        }
+
+        String hash = DigestUtils.md5DigestAsHex(json);
+        boolean compressed = compress && json.length >= minCompressedSize;
+        return new PokemonBody(
+                json,
+                compressed ? gzip(json) : null,
+                "\"" + hash + "\"",
+                compressed ? "\"" + hash + "-gzip\"" : null
+        );
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
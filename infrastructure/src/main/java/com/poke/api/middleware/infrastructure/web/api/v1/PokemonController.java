@@ -1,8 +1,20 @@
 package com.poke.api.middleware.infrastructure.web.api.v1;
 
-import com.poke.api.middleware.application.PokemonInput;
+import com.poke.api.middleware.application.ApplicationException;
+import com.poke.api.middleware.application.ErrorDTO;
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.application.NameMatch;
+import com.poke.api.middleware.application.PokemonNotFoundException;
 import com.poke.api.middleware.application.PokemonOutput;
-import com.poke.api.middleware.application.PokemonService;
+import com.poke.api.middleware.domain.DomainValidationException;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.configuration.BatchProperties;
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import com.poke.api.middleware.infrastructure.configuration.SearchProperties;
+import com.poke.api.middleware.infrastructure.metrics.PipelineMetrics;
+import com.poke.api.middleware.infrastructure.rest.UpstreamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,37 +23,88 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * REST controller for handling requests related to Pokémon searches.
- * This controller provides an endpoint for searching detailed information about a Pokémon by name.
+ * This controller provides endpoints for searching detailed information about one or several Pokémon by name,
+ * and for finding Pokémon names by prefix or approximate spelling.
  */
 @RestController
 @RequestMapping("/v1/pokemon")
 @Tag(name = "Pokemon API", description = "API for searching Pokémon details")
 public class PokemonController {
-    private final PokemonService pokemonService;
+    private final CachedPokemonSearch pokemonSearch;
+    private final PokemonBodyCache bodyCache;
+    private final NameIndex nameIndex;
+    private final CacheControl cacheControl;
+    private final int maxBatchNames;
+    private final SearchProperties searchProperties;
+    private final MeterRegistry meterRegistry;
+    private final Timer controllerTimer;
 
     /**
-     * Constructs a new {@link PokemonController} with the specified {@link PokemonService}.
+     * Constructs a new {@link PokemonController} with the specified {@link CachedPokemonSearch}.
      *
-     * @param pokemonService the service used to handle Pokémon search operations
+     * @param pokemonSearch     the cached search used to handle Pokémon search operations
+     * @param bodyCache         the {@link PokemonBodyCache} holding the rendered search responses
+     * @param nameIndex         the {@link NameIndex} answering name searches
+     * @param batchProperties   the {@link BatchProperties} holding the batch search limits
+     * @param cachingProperties the {@link CachingProperties} holding the HTTP caching settings
+     * @param searchProperties  the {@link SearchProperties} holding the name search limits
+     * @param meterRegistry     the {@link MeterRegistry} on which the controller stage is timed
      */
-    public PokemonController(PokemonService pokemonService) {
-        this.pokemonService = pokemonService;
+    public PokemonController(
+            CachedPokemonSearch pokemonSearch,
+            PokemonBodyCache bodyCache,
+            NameIndex nameIndex,
+            BatchProperties batchProperties,
+            CachingProperties cachingProperties,
+            SearchProperties searchProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.pokemonSearch = pokemonSearch;
+        this.bodyCache = bodyCache;
+        this.nameIndex = nameIndex;
+        this.cacheControl = CacheControl.maxAge(cachingProperties.http().maxAge())
+                                        .cachePublic();
+        this.maxBatchNames = batchProperties.maxNames();
+        this.searchProperties = searchProperties;
+        this.meterRegistry = meterRegistry;
+        this.controllerTimer = PipelineMetrics.stage(meterRegistry, PipelineMetrics.CONTROLLER);
     }
 
     /**
      * Endpoint to search for a Pokémon by its name.
      * This method returns detailed information including the name, sprite, and abilities of the Pokémon.
+     * Results are cached; a cached result past its soft time-to-live is still returned while it is refreshed.
+     * Recently served responses are written from their rendered bytes, gzip-compressed when the client accepts it,
+     * and carry a strong ETag, distinct for the compressed body, and a {@code Cache-Control} max-age.
+     * Serving a recently rendered response still starts the background refresh of the cached result when it is due.
+     * Other responses are produced asynchronously, so with the reactive client no request thread waits for the API.
+     * A request whose {@code If-None-Match} header matches the current ETag is answered with
+     * {@code 304 Not Modified} and no body; the ETag is checked against the content hash stored with the cached result,
+     * so such a request needs neither a search nor a rendering.
      *
-     * @param name the name of the Pokémon to search for
-     * @return a {@link PokemonOutput} object containing the Pokémon's details
+     * @param name           the name of the Pokémon to search for
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request, if any
+     * @param ifNoneMatch    the {@code If-None-Match} header of the request, if any
+     * @return a {@link CompletableFuture} completed with the JSON of a {@link PokemonOutput} object containing the Pokémon's details
      */
     @GetMapping
     @Operation(
@@ -77,6 +140,10 @@ public class PokemonController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The Pokémon did not change since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Pokémon not found",
@@ -96,11 +163,289 @@ public class PokemonController {
                     )
             )
     })
-    @Cacheable(value = "pokemonCache", key = "#name")
-    public PokemonOutput search(
+    public CompletableFuture<ResponseEntity<byte[]>> search(
             @RequestParam
             @Parameter(description = "Name of the Pokémon to search for", required = true, example = "bulbasaur")
-            String name) {
-        return pokemonService.search(PokemonInput.with(name));
+            String name,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            @Parameter(hidden = true)
+            String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            @Parameter(hidden = true)
+            String ifNoneMatch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PokemonBody cached = bodyCache.getIfPresent(name);
+        CompletableFuture<PokemonBody> body;
+        if (cached != null) {
+            pokemonSearch.refreshIfDue(name);
+            body = CompletableFuture.completedFuture(cached);
+        } else {
+            String etag = ifNoneMatch != null ? unchangedETag(name, acceptEncoding, ifNoneMatch) : null;
+            if (etag != null) {
+                sample.stop(controllerTimer);
+                return CompletableFuture.completedFuture(notModified(etag));
+            }
+            body = pokemonSearch.searchAsync(name)
+                                .thenApply(output -> bodyCache.put(name, output));
+        }
+
+        return body.thenApply(rendered -> toResponse(rendered, acceptEncoding, ifNoneMatch))
+                   .whenComplete((response, failure) -> sample.stop(controllerTimer));
+    }
+
+    private ResponseEntity<byte[]> toResponse(
+            PokemonBody body,
+            String acceptEncoding,
+            String ifNoneMatch
+    ) {
+        boolean gzip = body.gzip() != null && acceptsGzip(acceptEncoding);
+        String etag = gzip ? body.gzipEtag() : body.etag();
+        if (matchesETag(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                                            .contentType(MediaType.APPLICATION_JSON)
+                                                            .eTag(etag)
+                                                            .cacheControl(cacheControl)
+                                                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                           .body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+
+    private ResponseEntity<byte[]> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                             .eTag(etag)
+                             .cacheControl(cacheControl)
+                             .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                             .build();
+    }
+
+    /**
+     * Finds the ETag of the cached result of a name that an {@code If-None-Match} header matches, from the content hash
+     * stored with the result. The identity ETag is always considered, and the gzip one when the client accepts gzip.
+     *
+     * @return the matched ETag, or {@code null} if the result is not cached or changed
+     */
+    private String unchangedETag(
+            String name,
+            String acceptEncoding,
+            String ifNoneMatch
+    ) {
+        String hash = pokemonSearch.contentHash(name);
+        if (hash == null) {
+            return null;
+        }
+
+        String etag = "\"" + hash + "\"";
+        if (matchesETag(ifNoneMatch, etag)) {
+            return etag;
+        }
+        String gzipEtag = "\"" + hash + "-gzip\"";
+        return acceptsGzip(acceptEncoding) && matchesETag(ifNoneMatch, gzipEtag) ? gzipEtag : null;
+    }
+
+    /**
+     * Endpoint to search for several Pokémon at once.
+     * Cached names are read in a single round trip and the others are searched concurrently.
+     * Each name gets its own result, so a name that cannot be found does not fail the whole batch.
+     *
+     * @param names   the names of the Pokémon to search for
+     * @param request the {@link WebRequest} being handled
+     * @return a {@link PokemonBatchItem} for each distinct name, in request order
+     * @throws BadRequestException if more names are requested than allowed
+     */
+    @GetMapping("/batch")
+    @Operation(
+            summary = "Search for several Pokémon by name",
+            description = "Returns the details, or the error, of each requested Pokémon"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Every name was resolved to a Pokémon or to an error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                    [
+                        {
+                            "name": "ditto",
+                            "pokemon": {
+                                "name": "ditto",
+                                "sprite": "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/132.png",
+                                "abilities": [
+                                    {
+                                        "id": 7,
+                                        "name": "limber",
+                                        "effect": "This Pokémon cannot be paralyzed."
+                                    }
+                                ]
+                            }
+                        },
+                        {
+                            "name": "unknown",
+                            "error": {
+                                "timestamp": "2024-10-31T12:00:00Z",
+                                "status": 404,
+                                "error": "404 Not Found",
+                                "message": "404 Not Found",
+                                "path": "/api"
+                            }
+                        }
+                    ]
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "More names were requested than a batch search accepts"
+            )
+    })
+    public List<PokemonBatchItem> searchAll(
+            @RequestParam
+            @Parameter(description = "Comma-separated names of the Pokémon to search for", required = true, example = "bulbasaur,ivysaur")
+            List<String> names,
+            WebRequest request) {
+        if (names.size() > maxBatchNames) {
+            throw new BadRequestException("At most " + maxBatchNames + " names can be searched at once");
+        }
+
+        return pokemonSearch.searchAll(names)
+                            .entrySet()
+                            .stream()
+                            .map(result -> toBatchItem(result.getKey(), result.getValue(), request))
+                            .toList();
+    }
+
+    /**
+     * Endpoint to find Pokémon names by prefix or approximate spelling.
+     * Names starting with the query come first, in alphabetical order, followed by the names within one edit
+     * of the query, or two edits for queries longer than four characters, closest first.
+     * Names are searched in memory, among the names listed by the API at startup and the names searched since.
+     *
+     * @param query the beginning, or an approximate spelling, of the name
+     * @param limit the maximum number of names to return
+     * @return the matching names
+     * @throws ApplicationException if the query is blank or the limit is out of range
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "Find Pokémon names by prefix or approximate spelling",
+            description = "Returns the names starting with the query, followed by the names similar to it"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The matching names, possibly none",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                    [
+                        {
+                            "name": "pikachu",
+                            "prefix": false,
+                            "distance": 1
+                        }
+                    ]
+                    """
+                            )
+                    )
+            )
+    })
+    public List<NameMatch> searchNames(
+            @RequestParam("q")
+            @Parameter(description = "Beginning or approximate spelling of the name", required = true, example = "pikachi")
+            String query,
+            @RequestParam(required = false)
+            @Parameter(description = "Maximum number of names to return", example = "10")
+            Integer limit) {
+        if (query.isBlank()) {
+            throw new ApplicationException("The query must not be blank");
+        }
+        int maxNames = limit != null ? limit : searchProperties.defaultLimit();
+        if (maxNames < 1 || maxNames > searchProperties.maxLimit()) {
+            throw new ApplicationException("The limit must be between 1 and " + searchProperties.maxLimit());
+        }
+
+        return nameIndex.search(query, maxNames);
+    }
+
+    /**
+     * Tells whether an {@code If-None-Match} header matches an entity tag, using the weak comparison
+     * required for that header.
+     */
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static PokemonBatchItem toBatchItem(
+            String name,
+            CompletableFuture<PokemonOutput> result,
+            WebRequest request
+    ) {
+        try {
+            return PokemonBatchItem.found(name, result.join());
+        } catch (CompletionException e) {
+            return PokemonBatchItem.failed(name, toError(e.getCause(), request));
+        }
+    }
+
+    /**
+     * Describes the failure of a single batch name the way {@code RestResponseEntityExceptionHandler}
+     * describes the failure of a single search.
+     */
+    private static ErrorDTO toError(Throwable cause, WebRequest request) {
+        int status;
+        if (cause instanceof HttpStatusCodeException statusCodeException) {
+            status = statusCodeException.getStatusCode().value();
+        } else if (cause instanceof PokemonNotFoundException) {
+            status = HttpStatus.NOT_FOUND.value();
+        } else if (cause instanceof UpstreamUnavailableException) {
+            status = HttpStatus.SERVICE_UNAVAILABLE.value();
+        } else if (cause instanceof ApplicationException || cause instanceof DomainValidationException) {
+            status = HttpStatus.UNPROCESSABLE_ENTITY.value();
+        } else {
+            status = HttpStatus.BAD_GATEWAY.value();
+        }
+
+        return ErrorDTO.with(
+                cause.getLocalizedMessage(),
+                status,
+                cause.getMessage(),
+                request.getContextPath()
+        );
     }
 }
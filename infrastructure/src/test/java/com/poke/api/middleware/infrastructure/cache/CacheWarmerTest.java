@@ -0,0 +1,138 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poke.api.middleware.infrastructure.configuration.WarmUpProperties;
+import com.poke.api.middleware.infrastructure.rest.PokemonCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link CacheWarmer} class and its {@link CacheWarmUpHealthIndicator}.
+ */
+class CacheWarmerTest {
+
+    private static final int LISTING_ATTEMPTS = 3;
+
+    private CachedPokemonSearch pokemonSearch;
+    private PokemonCatalog catalog;
+    private CacheWarmer cacheWarmer;
+    private CacheWarmUpHealthIndicator healthIndicator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pokemonSearch = mock(CachedPokemonSearch.class);
+        catalog = mock(PokemonCatalog.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(anyString())).thenReturn(mock(Cache.class));
+
+        cacheWarmer = cacheWarmer(cacheManager);
+        ObjectProvider<CacheWarmer> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(cacheWarmer);
+        healthIndicator = new CacheWarmUpHealthIndicator(provider, 0.95);
+    }
+
+    /**
+     * Test that listing the Pokémon is retried after a failure, and the warm-up then proceeds.
+     */
+    @Test
+    void testListingIsRetried() {
+        when(catalog.pokemonNames(anyInt()))
+                .thenThrow(new ResourceAccessException("Connection refused"))
+                .thenReturn(List.of("bulbasaur", "ivysaur"));
+
+        cacheWarmer.warmUp();
+
+        verify(catalog, times(2)).pokemonNames(10);
+        verify(pokemonSearch).search("bulbasaur");
+        verify(pokemonSearch).search("ivysaur");
+        assertEquals(2, cacheWarmer.warm());
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    /**
+     * Test that a warm-up that could never list the Pokémon reports up once it ended, with the error in the details.
+     */
+    @Test
+    void testListingFailureReportsUpOnceFinished() {
+        when(catalog.pokemonNames(anyInt())).thenThrow(new ResourceAccessException("Connection refused"));
+
+        cacheWarmer.warmUp();
+
+        verify(catalog, times(LISTING_ATTEMPTS)).pokemonNames(10);
+        assertTrue(cacheWarmer.isFinished());
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("Connection refused", health.getDetails().get("error"));
+    }
+
+    /**
+     * Test that a warm-up in which too many Pokémon failed reports up once it ended, with the fraction of failures.
+     */
+    @Test
+    void testFailuresReportUpOnceFinished() {
+        when(catalog.pokemonNames(anyInt())).thenReturn(List.of("bulbasaur", "ivysaur"));
+        when(pokemonSearch.search("ivysaur")).thenThrow(new ResourceAccessException("Read timed out"));
+
+        cacheWarmer.warmUp();
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(1, health.getDetails().get("failed"));
+        assertEquals(0.5, health.getDetails().get("failedFraction"));
+    }
+
+    /**
+     * Test that the Pokémon already cached are found with a single read of the cache, and are not searched again.
+     */
+    @Test
+    void testCachedPokemonAreCheckedInOneRead() {
+        BulkReadCache pokemonCache = mock(BulkReadCache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(anyString())).thenReturn(mock(Cache.class));
+        when(cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE)).thenReturn(pokemonCache);
+        when(pokemonCache.getAll(List.of("bulbasaur", "ivysaur"))).thenReturn(Map.of("bulbasaur", "cached"));
+        when(catalog.pokemonNames(anyInt())).thenReturn(List.of("Bulbasaur", "ivysaur"));
+        CacheWarmer warmer = cacheWarmer(cacheManager);
+
+        warmer.warmUp();
+
+        verify(pokemonCache, times(1)).getAll(any());
+        verify(pokemonCache, never()).get(any());
+        verify(pokemonSearch, never()).search("Bulbasaur");
+        verify(pokemonSearch).search("ivysaur");
+        assertEquals(2, warmer.warm());
+    }
+
+    private CacheWarmer cacheWarmer(CacheManager cacheManager) {
+        return new CacheWarmer(
+                pokemonSearch,
+                catalog,
+                cacheManager,
+                new ObjectMapper(),
+                Runnable::run,
+                new WarmUpProperties(true, null, 10, 1, 1000, 0.95, LISTING_ATTEMPTS, Duration.ofMillis(1))
+        );
+    }
+}
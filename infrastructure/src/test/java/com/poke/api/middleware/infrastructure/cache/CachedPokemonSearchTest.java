@@ -0,0 +1,100 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.KnownPokemonNames;
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.application.PokemonService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link CachedPokemonSearch} class.
+ */
+class CachedPokemonSearchTest {
+
+    private PokemonService pokemonService;
+    private Cache cache;
+    private CachedPokemonSearch pokemonSearch;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pokemonService = mock(PokemonService.class);
+        cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE)).thenReturn(cache);
+        ObjectProvider<Tracer> tracer = mock(ObjectProvider.class);
+        when(tracer.getIfAvailable(any())).thenReturn(Tracer.NOOP);
+
+        pokemonSearch = new CachedPokemonSearch(
+                pokemonService,
+                cacheManager,
+                Runnable::run,
+                Runnable::run,
+                mock(NameIndex.class),
+                mock(KnownPokemonNames.class),
+                mock(NegativeLookupCache.class),
+                new SimpleMeterRegistry(),
+                tracer
+        );
+    }
+
+    /**
+     * Test that an asynchronous search of a cached name reads the cache once and returns the value read.
+     */
+    @Test
+    void testAsyncSearchOfCachedNameReadsCacheOnce() {
+        PokemonOutput bulbasaur = bulbasaur();
+        when(cache.get("bulbasaur")).thenReturn(new SimpleValueWrapper(bulbasaur));
+
+        assertSame(bulbasaur, pokemonSearch.searchAsync("bulbasaur").join());
+
+        verify(cache, times(1)).get("bulbasaur");
+        verify(cache, never()).get(eq("bulbasaur"), any(Callable.class));
+        verify(pokemonService, never()).searchAsync(any());
+    }
+
+    /**
+     * Test that every spelling of a name reads and stores the same cache entry.
+     */
+    @Test
+    void testSearchesAreCachedByNormalizedName() {
+        PokemonOutput bulbasaur = bulbasaur();
+        when(cache.get("bulbasaur")).thenReturn(new SimpleValueWrapper(bulbasaur));
+        when(pokemonService.searchAsync(any())).thenReturn(CompletableFuture.completedFuture(bulbasaur));
+
+        assertSame(bulbasaur, pokemonSearch.searchAsync(" Bulbasaur ").join());
+        verify(cache, times(1)).get("bulbasaur");
+
+        pokemonSearch.searchAsync("IVYSAUR").join();
+        verify(cache).put("ivysaur", bulbasaur);
+    }
+
+    private static PokemonOutput bulbasaur() {
+        return new PokemonOutput(
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                List.of(new AbilityOutput(65, "overgrow", "Powers up Grass-type moves when the Pokémon's HP is low."))
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.PokemonOutput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CompactRedisSerializer} class.
+ */
+class CompactRedisSerializerTest {
+
+    private static final String EFFECT = "When this Pokémon has 1/3 or less of its HP remaining, "
+                                         + "its grass-type moves inflict 1.5× as much regular damage. ".repeat(4);
+
+    private CompactRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), 128);
+    }
+
+    /**
+     * Test that a cached entry, with a compressed ability effect, reads back equal to the written one.
+     */
+    @Test
+    void testRoundTrip() {
+        SoftTtlEntry entry = new SoftTtlEntry(bulbasaur(EFFECT), 1_700_000_000_000L, 250, "0123456789abcdef0123456789abcdef");
+
+        assertEquals(entry, serializer.deserialize(serializer.serialize(entry)));
+    }
+
+    /**
+     * Test that a value cut short inside an uncompressed string fails with a {@link SerializationException}.
+     */
+    @Test
+    void testTruncatedUncompressedString() {
+        CompactRedisSerializer uncompressed = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), 0);
+        byte[] bytes = uncompressed.serialize(bulbasaur("Speed is doubled during strong sunlight."));
+
+        for (int length = 1; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(SerializationException.class, () -> uncompressed.deserialize(truncated), "length " + length);
+        }
+    }
+
+    /**
+     * Test that a value cut short inside a compressed string fails with a {@link SerializationException}.
+     */
+    @Test
+    void testTruncatedCompressedString() {
+        byte[] bytes = serializer.serialize(bulbasaur(EFFECT));
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 10)));
+    }
+
+    /**
+     * Test that a compressed string whose bytes were corrupted fails with a {@link SerializationException}
+     * rather than an LZ4 error.
+     */
+    @Test
+    void testCorruptCompressedString() {
+        byte[] bytes = serializer.serialize(bulbasaur(EFFECT));
+        byte[] corrupt = bytes.clone();
+        for (int i = corrupt.length - 40; i < corrupt.length; i++) {
+            corrupt[i] = (byte) 0xFF;
+        }
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(corrupt));
+    }
+
+    private static PokemonOutput bulbasaur(String effect) {
+        return new PokemonOutput(
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                List.of(new AbilityOutput(65, "overgrow", effect))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link NegativeLookupCache} class.
+ */
+class NegativeLookupCacheTest {
+
+    private NegativeLookupCache negativeCache;
+
+    @BeforeEach
+    void setUp() {
+        negativeCache = new NegativeLookupCache(
+                new CachingProperties(
+                        CachingProperties.Serializer.COMPACT,
+                        128,
+                        null,
+                        null,
+                        null,
+                        new CachingProperties.Negative(100, Duration.ofMinutes(1)),
+                        null
+                ),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    /**
+     * Test that a name the API did not know is remembered for every spelling of it.
+     */
+    @Test
+    void testUnknownNameIsRememberedByNormalizedName() {
+        negativeCache.recordFailure(" MissingNo ", HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> negativeCache.throwIfNotFound("missingno"));
+        assertThrows(HttpClientErrorException.NotFound.class, () -> negativeCache.throwIfNotFound("MISSINGNO"));
+        assertDoesNotThrow(() -> negativeCache.throwIfNotFound("bulbasaur"));
+    }
+
+    /**
+     * Test that failures other than {@code 404 Not Found} are not remembered.
+     */
+    @Test
+    void testOtherFailuresAreNotRemembered() {
+        negativeCache.recordFailure("missingno", HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        assertDoesNotThrow(() -> negativeCache.throwIfNotFound("missingno"));
+    }
+}
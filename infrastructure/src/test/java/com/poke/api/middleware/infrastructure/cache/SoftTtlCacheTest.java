@@ -0,0 +1,174 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link SoftTtlCache} class.
+ */
+class SoftTtlCacheTest {
+
+    private static final Duration SOFT_TTL = Duration.ofMinutes(60);
+
+    private ConcurrentMapCache delegate;
+    private List<Runnable> refreshes;
+    private MutableClock clock;
+    private SoftTtlCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("pokemonCache");
+        refreshes = new ArrayList<>();
+        clock = new MutableClock();
+        cache = softTtlCache(1.0);
+    }
+
+    /**
+     * Test that an entry within its soft time-to-live is served without loading or refreshing it.
+     */
+    @Test
+    void testFreshEntryIsServedWithoutRefresh() {
+        cache = softTtlCache(0);
+        cache.put("bulbasaur", "v1");
+        clock.advance(SOFT_TTL.minusMillis(1));
+
+        assertEquals("v1", cache.get("bulbasaur", failingLoader()));
+        assertTrue(refreshes.isEmpty());
+    }
+
+    /**
+     * Test that an entry past its soft time-to-live is still served while a single background refresh replaces it.
+     */
+    @Test
+    void testStaleEntryIsServedWhileRefreshing() {
+        cache.put("bulbasaur", "v1");
+        clock.advance(SOFT_TTL);
+
+        assertEquals("v1", cache.get("bulbasaur", () -> "v2"));
+        assertEquals("v1", cache.get("bulbasaur", () -> "v2"));
+        assertEquals(1, refreshes.size());
+
+        refreshes.remove(0).run();
+
+        assertEquals("v2", cache.get("bulbasaur", failingLoader()));
+        assertTrue(refreshes.isEmpty());
+    }
+
+    /**
+     * Test that a failed refresh keeps the stale value, and that a later read tries again.
+     */
+    @Test
+    void testFailedRefreshKeepsOldValue() {
+        cache.put("bulbasaur", "v1");
+        clock.advance(SOFT_TTL);
+
+        assertEquals("v1", cache.get("bulbasaur", failingLoader()));
+        refreshes.remove(0).run();
+
+        assertEquals("v1", cache.get("bulbasaur", failingLoader()));
+        assertEquals(1, refreshes.size());
+    }
+
+    /**
+     * Test that an entry that was expensive to compute is refreshed before its soft time-to-live ends,
+     * following the XFetch decision, while an eager refresh never happens with a {@code beta} of {@code 0}.
+     */
+    @Test
+    void testExpensiveEntryIsRefreshedEarly() {
+        cache = softTtlCache(1e9);
+        cache.get("bulbasaur", () -> {
+            clock.advance(Duration.ofSeconds(1));
+            return "v1";
+        });
+        assertEquals(1_000, assertInstanceOf(SoftTtlEntry.class, delegate.get("bulbasaur").get()).computeMillis());
+        clock.advance(SOFT_TTL.dividedBy(2));
+
+        assertEquals("v1", cache.get("bulbasaur", () -> "v2"));
+        assertEquals(1, refreshes.size());
+
+        SoftTtlCache lazyCache = softTtlCache(0);
+        refreshes.clear();
+        assertEquals("v1", lazyCache.get("bulbasaur", () -> "v2"));
+        assertTrue(refreshes.isEmpty());
+    }
+
+    /**
+     * Test that a miss is loaded on the calling thread by {@link SoftTtlCache#get(Object, Callable)},
+     * but not by {@link SoftTtlCache#getIfPresent(Object, Callable)}.
+     */
+    @Test
+    void testMissIsOnlyLoadedWhenAsked() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.getIfPresent("bulbasaur", () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get("bulbasaur", () -> "v" + loads.incrementAndGet()));
+
+        assertEquals(1, loads.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    /**
+     * Test that the content hash of a value is stored with it.
+     */
+    @Test
+    void testContentHashIsStoredWithValue() {
+        cache = new SoftTtlCache(delegate, refreshes::add, SOFT_TTL, 1.0, clock, value -> "hash-of-" + value);
+
+        cache.put("bulbasaur", "v1");
+
+        assertEquals("hash-of-v1", cache.getEntryIfPresent("bulbasaur", failingLoader()).contentHash());
+        assertEquals("v1", cache.get("bulbasaur").get());
+    }
+
+    private SoftTtlCache softTtlCache(double beta) {
+        return new SoftTtlCache(delegate, refreshes::add, SOFT_TTL, beta, clock, null);
+    }
+
+    private static Callable<String> failingLoader() {
+        return () -> {
+            throw new IllegalStateException("The Pokémon API is unavailable");
+        };
+    }
+
+    /**
+     * A {@link Clock} that only moves when told to.
+     */
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-10-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.poke.api.middleware.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link TwoTierCache} and {@link TwoTierCacheManager} classes.
+ */
+class TwoTierCacheTest {
+
+    private RedisCache redisCache;
+    private StringRedisTemplate redisTemplate;
+    private TwoTierCacheManager cacheManager;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        redisCache = mock(RedisCache.class);
+        when(redisCache.getName()).thenReturn(CachedPokemonSearch.POKEMON_CACHE);
+        when(redisCacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE)).thenReturn(redisCache);
+        redisTemplate = mock(StringRedisTemplate.class);
+        cacheManager = new TwoTierCacheManager(
+                redisCacheManager,
+                mock(RedisConnectionFactory.class),
+                redisTemplate,
+                List.of(CachedPokemonSearch.POKEMON_CACHE),
+                100,
+                Duration.ofMinutes(10),
+                UnaryOperator.identity()
+        );
+        cache = (TwoTierCache) cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE);
+    }
+
+    /**
+     * Test that a value read from Redis fills the near cache, so the next read does not reach Redis.
+     */
+    @Test
+    void testRedisHitFillsNearCache() {
+        when(redisCache.get("bulbasaur")).thenReturn(new SimpleValueWrapper("v1"));
+
+        assertEquals("v1", cache.get("bulbasaur").get());
+        assertEquals("v1", cache.get("bulbasaur").get());
+
+        verify(redisCache, times(1)).get("bulbasaur");
+        assertEquals("v1", cache.getNearCache().getIfPresent("bulbasaur"));
+    }
+
+    /**
+     * Test that a write goes to both tiers and announces the change to the other nodes and the local listeners.
+     */
+    @Test
+    void testPutWritesBothTiersAndPublishesInvalidation() {
+        RecordingListener listener = new RecordingListener();
+        cacheManager.addInvalidationListener(listener);
+
+        cache.put("bulbasaur", "v1");
+
+        verify(redisCache).put("bulbasaur", "v1");
+        assertEquals("v1", cache.getNearCache().getIfPresent("bulbasaur"));
+        assertEquals("|evict|pokemonCache|bulbasaur", publishedInvalidation().replaceFirst("^[^|]*", ""));
+        assertEquals(List.of("put bulbasaur v1"), listener.events);
+    }
+
+    /**
+     * Test that an eviction drops the entry from both tiers and announces it.
+     */
+    @Test
+    void testEvictDropsBothTiersAndPublishesInvalidation() {
+        RecordingListener listener = new RecordingListener();
+        cacheManager.addInvalidationListener(listener);
+        cache.put("bulbasaur", "v1");
+
+        cache.evict("bulbasaur");
+
+        verify(redisCache).evict("bulbasaur");
+        assertNull(cache.getNearCache().getIfPresent("bulbasaur"));
+        assertEquals(List.of("put bulbasaur v1", "evict bulbasaur"), listener.events);
+    }
+
+    /**
+     * Test that an invalidation published by another node drops the near entry, while this node's own
+     * invalidations, received back from Redis, leave it in place.
+     */
+    @Test
+    void testInvalidationFromAnotherNodeDropsNearEntry() {
+        cache.put("bulbasaur", "v1");
+        cache.put("ivysaur", "v2");
+
+        cacheManager.onMessage(invalidation(publishedInvalidation()), null);
+        assertEquals("v2", cache.getNearCache().getIfPresent("ivysaur"));
+
+        cacheManager.onMessage(invalidation("other-node|evict|pokemonCache|bulbasaur"), null);
+        assertNull(cache.getNearCache().getIfPresent("bulbasaur"));
+        assertEquals("v2", cache.getNearCache().getIfPresent("ivysaur"));
+
+        cacheManager.onMessage(invalidation("other-node|clear|pokemonCache"), null);
+        assertTrue(cache.getNearCache().asMap().isEmpty());
+    }
+
+    /**
+     * Gets the last invalidation this node published.
+     */
+    private String publishedInvalidation() {
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, atLeastOnce())
+                .convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), message.capture());
+        return message.getValue();
+    }
+
+    private static DefaultMessage invalidation(String body) {
+        return new DefaultMessage(
+                TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * A listener recording the changes it is told about.
+     */
+    private static final class RecordingListener implements NearCacheInvalidationListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onEvict(String cacheName, String key) {
+            events.add("evict " + key);
+        }
+
+        @Override
+        public void onPut(String cacheName, String key, Object value) {
+            events.add("put " + key + " " + value);
+        }
+
+        @Override
+        public void onClear(String cacheName) {
+            events.add("clear");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.infrastructure.store.PokedexSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the {@link GatewayConfiguration} class.
+ */
+class GatewayConfigurationTest {
+
+    private final PokemonGateway upstreamGateway = mock(PokemonGateway.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(GatewayConfiguration.class)
+            .withBean("upstream", PokemonGateway.class, () -> upstreamGateway)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    /**
+     * Test that the empty snapshot path listed in the application configuration does not map a snapshot,
+     * so the application starts and lookups go straight to the API.
+     */
+    @Test
+    void testBlankSnapshotPathMapsNoSnapshot() {
+        contextRunner.withPropertyValues("poke-api.local-store.snapshot-path=")
+                     .run(context -> {
+                         assertThat(context).hasNotFailed();
+                         assertThat(context).doesNotHaveBean(PokedexSnapshot.class);
+                         assertThat(context.getBean("pokemonGateway")).isSameAs(upstreamGateway);
+                     });
+    }
+
+    /**
+     * Test that a set snapshot path is still mapped, so a missing snapshot file fails the startup.
+     */
+    @Test
+    void testSetSnapshotPathIsMapped() {
+        contextRunner.withPropertyValues("poke-api.local-store.snapshot-path=missing.snapshot")
+                     .run(context -> assertThat(context).hasFailed());
+    }
+}
@@ -0,0 +1,113 @@
+package com.poke.api.middleware.infrastructure.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link WebServerVerifier} class.
+ */
+class WebServerVerifierTest {
+
+    private static final String WORKER = "org.xnio:type=Xnio,provider=\"nio\",worker=\"XNIO-1\"";
+    private static final String SERVER = WORKER + ",address=\"/127.0.0.1:8080\"";
+
+    private MBeanServer mBeanServer;
+    private WebServerVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws JMException {
+        mBeanServer = MBeanServerFactory.newMBeanServer();
+        mBeanServer.registerMBean(
+                new StandardMBean(new XnioServer(), XnioServerMBean.class),
+                new ObjectName(SERVER)
+        );
+
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.getUndertow().getThreads().setIo(4);
+        serverProperties.getUndertow().getThreads().setWorker(32);
+        verifier = new WebServerVerifier(serverProperties, new MockEnvironment());
+    }
+
+    /**
+     * Test that the worker is verified, next to a server MBean that has none of the worker attributes.
+     */
+    @Test
+    void testConfiguredWorkerPasses() throws JMException {
+        registerWorker(4, 32);
+
+        assertDoesNotThrow(() -> verifier.verifyUndertowThreads(mBeanServer));
+    }
+
+    /**
+     * Test that a worker running with another worker thread count than configured fails the startup.
+     */
+    @Test
+    void testWorkerThreadMismatchFails() throws JMException {
+        registerWorker(4, 64);
+
+        assertThrows(IllegalStateException.class, () -> verifier.verifyUndertowThreads(mBeanServer));
+    }
+
+    /**
+     * Test that a worker running with another I/O thread count than configured fails the startup.
+     */
+    @Test
+    void testIoThreadMismatchFails() throws JMException {
+        registerWorker(8, 32);
+
+        assertThrows(IllegalStateException.class, () -> verifier.verifyUndertowThreads(mBeanServer));
+    }
+
+    private void registerWorker(int ioThreads, int workerThreads) throws JMException {
+        mBeanServer.registerMBean(
+                new StandardMBean(new XnioWorker(ioThreads, workerThreads), XnioWorkerMBean.class),
+                new ObjectName(WORKER)
+        );
+    }
+
+    /**
+     * The attributes of an XNIO worker MBean read by the verifier.
+     */
+    public interface XnioWorkerMBean {
+        int getIoThreadCount();
+
+        int getMaxWorkerPoolSize();
+    }
+
+    /**
+     * The attributes of an XNIO server MBean, which has no thread counts.
+     */
+    public interface XnioServerMBean {
+        int getConnectionCount();
+    }
+
+    private record XnioWorker(int ioThreads, int workerThreads) implements XnioWorkerMBean {
+        @Override
+        public int getIoThreadCount() {
+            return ioThreads;
+        }
+
+        @Override
+        public int getMaxWorkerPoolSize() {
+            return workerThreads;
+        }
+    }
+
+    private static final class XnioServer implements XnioServerMBean {
+        @Override
+        public int getConnectionCount() {
+            return 0;
+        }
+    }
+}
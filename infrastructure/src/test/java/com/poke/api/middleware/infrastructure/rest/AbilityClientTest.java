@@ -0,0 +1,141 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.application.RequestHedger;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link AbilityClient} and {@link CancellableRequestFactory} classes.
+ */
+class AbilityClientTest {
+
+    private static final String URL = "https://pokeapi.co/api/v2/ability/65/";
+
+    private RestTemplate restTemplate;
+    private ConcurrentMapCacheManager cacheManager;
+    private RequestHedger hedger;
+    private AbilityClient abilityClient;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        cacheManager = new ConcurrentMapCacheManager("abilityCache");
+        hedger = new RequestHedger(true, 0.95, 20, TimeUnit.MILLISECONDS, 100, Runnable::run);
+        abilityClient = new AbilityClient(restTemplate, cacheManager, hedger, Runnable::run);
+    }
+
+    /**
+     * Test that cached abilities are neither requested from the API nor observed by the hedger.
+     */
+    @Test
+    void testCacheHitsAreNotHedged() {
+        AbilityResponse overgrow = overgrow();
+        cacheManager.getCache("abilityCache").put(URL, overgrow);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(overgrow, abilityClient.fetchAsync(URL).join());
+        }
+
+        verify(restTemplate, never()).getForObject(anyString(), eq(AbilityResponse.class));
+        assertEquals(-1, hedger.hedgeDelayNanos());
+    }
+
+    /**
+     * Test that a missing ability is requested from the API once and then cached.
+     */
+    @Test
+    void testCacheMissIsFetchedAndStored() {
+        AbilityResponse overgrow = overgrow();
+        when(restTemplate.getForObject(URL, AbilityResponse.class)).thenReturn(overgrow);
+
+        assertSame(overgrow, abilityClient.fetchAsync(URL).join());
+        assertSame(overgrow, abilityClient.fetchAsync(URL).join());
+
+        verify(restTemplate, times(1)).getForObject(URL, AbilityResponse.class);
+        assertSame(overgrow, cacheManager.getCache("abilityCache").get(URL, AbilityResponse.class));
+    }
+
+    /**
+     * Test that a cache miss calls the API from the task that read the cache, instead of waiting on the executor
+     * again from one of its own threads, which would deadlock a saturated executor.
+     */
+    @Test
+    void testCacheMissIsFetchedWithinOneExecutorTask() {
+        AtomicInteger tasks = new AtomicInteger();
+        AbilityClient client = new AbilityClient(restTemplate, cacheManager, hedger, command -> {
+            tasks.incrementAndGet();
+            command.run();
+        });
+        when(restTemplate.getForObject(URL, AbilityResponse.class)).thenReturn(overgrow());
+
+        client.fetchAsync(URL).join();
+
+        assertEquals(1, tasks.get());
+    }
+
+    /**
+     * Test that a lookup cancelled before its task runs neither reads the cache nor calls the API.
+     */
+    @Test
+    void testCancelledLookupIsNotSent() {
+        List<Runnable> tasks = new ArrayList<>();
+        AbilityClient client = new AbilityClient(restTemplate, cacheManager, hedger, tasks::add);
+
+        CompletableFuture<AbilityResponse> lookup = client.fetchAsync(URL);
+        lookup.cancel(true);
+        tasks.forEach(Runnable::run);
+
+        verify(restTemplate, never()).getForObject(anyString(), eq(AbilityResponse.class));
+        assertNull(cacheManager.getCache("abilityCache").get(URL));
+    }
+
+    /**
+     * Test that a request created for an attempt is aborted once the attempt is cancelled.
+     */
+    @Test
+    void testCancellingAttemptAbortsRequest() {
+        CancellableRequestFactory factory = new CancellableRequestFactory(mock(HttpClient.class));
+        CompletableFuture<AbilityResponse> attempt = new CompletableFuture<>();
+
+        ClassicHttpRequest request = CancellableRequestFactory.sendFor(
+                attempt,
+                () -> factory.createHttpUriRequest(HttpMethod.GET, URI.create(URL))
+        );
+        assertFalse(((HttpUriRequestBase) request).isCancelled());
+        attempt.cancel(true);
+
+        assertTrue(((HttpUriRequestBase) request).isCancelled());
+        assertTrue(CancellableRequestFactory.sendFor(attempt, CancellableRequestFactory::isCancelled));
+        assertFalse(CancellableRequestFactory.isCancelled());
+    }
+
+    private static AbilityResponse overgrow() {
+        return new AbilityResponse(65, "overgrow", List.of());
+    }
+}
@@ -0,0 +1,153 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import com.poke.api.middleware.infrastructure.configuration.UpstreamProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link RedisTokenBucket} class.
+ * The Lua script taking the tokens is tested against a Redis server by {@link TokenBucketScriptTest}.
+ */
+class RedisTokenBucketTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private StringRedisTemplate redisTemplate;
+    private ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private RedisTokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        reactiveRedisTemplate = mock(ReactiveStringRedisTemplate.class);
+        bucket = new RedisTokenBucket(
+                redisTemplate,
+                reactiveRedisTemplate,
+                new UpstreamProperties.RateLimit(true, "poke-api:upstream:rate-limit", 10, 100, Duration.ofMillis(10))
+        );
+    }
+
+    /**
+     * Test that a call finding a token in the bucket goes through at once.
+     */
+    @Test
+    void testAcquireTakesAvailableToken() {
+        whenScriptReturns(0L);
+
+        bucket.acquire();
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+        assertEquals(0, bucket.throttledCount());
+        assertEquals(0, bucket.rejectedCount());
+    }
+
+    /**
+     * Test that a call finding the bucket empty waits for the next token and then takes it.
+     */
+    @Test
+    void testAcquireWaitsForNextToken() {
+        whenScriptReturns(5L, 5L, 0L);
+
+        bucket.acquire();
+
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(), any());
+        assertEquals(1, bucket.throttledCount());
+        assertEquals(0, bucket.rejectedCount());
+    }
+
+    /**
+     * Test that a call that would wait past the deadline is rejected.
+     */
+    @Test
+    void testAcquireRejectsPastDeadline() {
+        whenScriptReturns(5L, 5L, 5L);
+
+        assertThrows(UpstreamUnavailableException.class, () -> bucket.acquire());
+
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(), any());
+        assertEquals(1, bucket.throttledCount());
+        assertEquals(1, bucket.rejectedCount());
+    }
+
+    /**
+     * Test that a call goes through when the bucket cannot be reached.
+     */
+    @Test
+    void testAcquireLetsCallThroughWhenRedisFails() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        bucket.acquire();
+
+        assertEquals(0, bucket.throttledCount());
+        assertEquals(0, bucket.rejectedCount());
+    }
+
+    /**
+     * Test that a reactive call finding the bucket empty waits for the next token without blocking, and then takes it.
+     */
+    @Test
+    void testAcquireAsyncWaitsForNextToken() {
+        whenReactiveScriptReturns(Flux.just(5L), Flux.just(0L));
+
+        bucket.acquireAsync().block(TIMEOUT);
+
+        verify(reactiveRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+        assertEquals(1, bucket.throttledCount());
+        assertEquals(0, bucket.rejectedCount());
+    }
+
+    /**
+     * Test that a reactive call that would wait past the deadline fails.
+     */
+    @Test
+    void testAcquireAsyncRejectsPastDeadline() {
+        whenReactiveScriptReturns(Flux.just(5L), Flux.just(5L), Flux.just(5L));
+
+        assertThrows(UpstreamUnavailableException.class, () -> bucket.acquireAsync().block(TIMEOUT));
+
+        assertEquals(1, bucket.throttledCount());
+        assertEquals(1, bucket.rejectedCount());
+    }
+
+    /**
+     * Test that a reactive call goes through when the bucket cannot be reached.
+     */
+    @Test
+    void testAcquireAsyncLetsCallThroughWhenRedisFails() {
+        whenReactiveScriptReturns(Flux.error(new RedisConnectionFailureException("Connection refused")));
+
+        bucket.acquireAsync().block(TIMEOUT);
+
+        assertEquals(0, bucket.throttledCount());
+        assertEquals(0, bucket.rejectedCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void whenScriptReturns(Long wait, Long... waits) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(wait, waits);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void whenReactiveScriptReturns(Flux<Long> waits, Flux<Long>... moreWaits) {
+        when(reactiveRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(waits, moreWaits);
+    }
+}
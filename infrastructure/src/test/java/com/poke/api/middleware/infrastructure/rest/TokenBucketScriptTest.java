@@ -0,0 +1,123 @@
+package com.poke.api.middleware.infrastructure.rest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@code redis/token-bucket.lua} script used by the {@link RedisTokenBucket}, run against an embedded
+ * Redis server, since the script reads the clock of the server.
+ */
+class TokenBucketScriptTest {
+
+    private static final RedisScript<Long> SCRIPT = RedisScript.of(
+            new ClassPathResource("redis/token-bucket.lua"),
+            Long.class
+    );
+    private static final String KEY = "poke-api:upstream:rate-limit";
+    private static final List<String> KEYS = List.of(KEY);
+
+    /**
+     * A bucket holding two tokens and gaining ten per second, so a missing token takes 100 milliseconds to come.
+     */
+    private static final Object[] ARGS = {"2", "10.0"};
+
+    /**
+     * An update time in microseconds that is far ahead of the clock of the server, so no token is added before
+     * one is taken.
+     */
+    private static final String NO_REFILL = "99999999999999999";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(KEY);
+    }
+
+    /**
+     * Test that a new bucket starts full, hands out its tokens, and then reports the wait for the next one.
+     */
+    @Test
+    void testNewBucketHandsOutCapacityThenWaits() {
+        assertEquals(0, take());
+        assertEquals(0, take());
+
+        long wait = take();
+        assertTrue(wait > 0 && wait <= 100, "wait: " + wait);
+    }
+
+    /**
+     * Test that the wait for the next token covers only the missing part of it.
+     */
+    @Test
+    void testWaitCoversMissingPartOfToken() {
+        redisTemplate.opsForHash().putAll(KEY, Map.of("tokens", "0.25", "updated", NO_REFILL));
+
+        assertEquals(75, take());
+    }
+
+    /**
+     * Test that tokens are added at the configured rate, up to the capacity of the bucket.
+     */
+    @Test
+    void testRefillIsCappedAtCapacity() {
+        redisTemplate.opsForHash().putAll(KEY, Map.of("tokens", "0", "updated", "0"));
+
+        assertEquals(0, take());
+        assertEquals(0, take());
+        assertTrue(take() > 0);
+    }
+
+    /**
+     * Test that the bucket expires once it would have refilled, so unused buckets do not stay in Redis.
+     */
+    @Test
+    void testBucketExpiresOnceRefilled() {
+        take();
+
+        long ttl = redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS);
+        assertTrue(ttl > 0 && ttl <= 1_200, "ttl: " + ttl);
+    }
+
+    private long take() {
+        return redisTemplate.execute(SCRIPT, KEYS, ARGS);
+    }
+}
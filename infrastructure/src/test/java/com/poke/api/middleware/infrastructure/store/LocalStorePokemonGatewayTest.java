@@ -0,0 +1,132 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.application.PokemonGateway;
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link LocalStorePokemonGateway} and {@link LocalPokemonStore} classes.
+ */
+class LocalStorePokemonGatewayTest {
+
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final long WRITTEN_AT = Instant.parse("2024-10-01T00:00:00Z").toEpochMilli();
+
+    @TempDir
+    private Path directory;
+
+    private LocalPokemonStore store;
+    private PokemonGateway delegate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = LocalPokemonStore.open(directory.resolve("pokemon.store"));
+        delegate = mock(PokemonGateway.class);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    /**
+     * Test that a Pokémon stored within its time-to-live is returned without calling the decorated gateway.
+     */
+    @Test
+    void testFreshPokemonIsServedFromStore() {
+        store.put(bulbasaur("overgrow"), WRITTEN_AT);
+
+        Optional<Pokemon> found = gatewayAt(WRITTEN_AT + TTL.toMillis() - 1).findByName("bulbasaur");
+
+        assertEquals(Optional.of(bulbasaur("overgrow")), found);
+        verify(delegate, never()).findByName(any());
+    }
+
+    /**
+     * Test that a Pokémon stored past its time-to-live is refreshed through the decorated gateway and stored again.
+     */
+    @Test
+    void testExpiredPokemonIsRefreshed() {
+        long now = WRITTEN_AT + TTL.toMillis();
+        store.put(bulbasaur("overgrow"), WRITTEN_AT);
+        when(delegate.findByName("bulbasaur")).thenReturn(Optional.of(bulbasaur("chlorophyll")));
+
+        Optional<Pokemon> found = gatewayAt(now).findByName("bulbasaur");
+
+        assertEquals(Optional.of(bulbasaur("chlorophyll")), found);
+        assertEquals(new StoredPokemon(bulbasaur("chlorophyll"), now), store.getStored("bulbasaur").orElseThrow());
+    }
+
+    /**
+     * Test that a Pokémon stored past its time-to-live is still returned when it cannot be refreshed.
+     */
+    @Test
+    void testExpiredPokemonIsServedWhenRefreshFails() {
+        store.put(bulbasaur("overgrow"), WRITTEN_AT);
+        when(delegate.findByName("bulbasaur")).thenThrow(new ResourceAccessException("Connection refused"));
+
+        Optional<Pokemon> found = gatewayAt(WRITTEN_AT + TTL.toMillis()).findByName("bulbasaur");
+
+        assertEquals(Optional.of(bulbasaur("overgrow")), found);
+        assertEquals(WRITTEN_AT, store.getStored("bulbasaur").orElseThrow().writtenAt());
+    }
+
+    /**
+     * Test that storing an unchanged Pokémon only updates its write time, which survives reopening the store.
+     */
+    @Test
+    void testUnchangedPokemonOnlyUpdatesWriteTime() throws IOException {
+        Path file = directory.resolve("pokemon.store");
+        store.put(bulbasaur("overgrow"), WRITTEN_AT);
+        long size = Files.size(file);
+
+        store.put(bulbasaur("overgrow"), WRITTEN_AT + 1_000);
+        store.close();
+        store = LocalPokemonStore.open(file);
+
+        assertEquals(size, Files.size(file));
+        assertEquals(WRITTEN_AT + 1_000, store.getStored("bulbasaur").orElseThrow().writtenAt());
+    }
+
+    private LocalStorePokemonGateway gatewayAt(long millis) {
+        return new LocalStorePokemonGateway(
+                store,
+                delegate,
+                TTL,
+                Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private static Pokemon bulbasaur(String ability) {
+        return Pokemon.from(
+                1,
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                List.of(Ability.from(65, ability, "An ability of bulbasaur."))
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.poke.api.middleware.infrastructure.store;
+
+import com.poke.api.middleware.domain.Ability;
+import com.poke.api.middleware.domain.Pokemon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link PokedexSnapshot} and {@link PokedexSnapshotWriter} classes.
+ */
+class PokedexSnapshotTest {
+
+    private static final String BULBASAUR_SPRITE = "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png";
+    private static final Ability OVERGROW = Ability.from(65, "overgrow", "Powers up Grass-type moves when the Pokémon's HP is low.");
+    private static final Ability CHLOROPHYLL = Ability.from(34, "chlorophyll", "Boosts the Pokémon's Speed stat in harsh sunlight.");
+
+    @TempDir
+    private Path directory;
+
+    private PokedexSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = directory.resolve("pokedex.snapshot");
+        PokedexSnapshotWriter.write(
+                List.of(
+                        Pokemon.from(25, "pikachu", null, List.of(Ability.from(9, "static", null))),
+                        Pokemon.from(1, "Bulbasaur", BULBASAUR_SPRITE, List.of(OVERGROW, CHLOROPHYLL)),
+                        Pokemon.from(2, "ivysaur", "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/2.png",
+                                     List.of(OVERGROW, CHLOROPHYLL))
+                ),
+                file
+        );
+        snapshot = PokedexSnapshot.open(file);
+    }
+
+    /**
+     * Test that a written Pokémon is read back by name, with its sprite and abilities in order.
+     */
+    @Test
+    void testFindByNameReadsBackWrittenPokemon() {
+        Pokemon bulbasaur = snapshot.findByName("bulbasaur").orElseThrow();
+
+        assertEquals(1, bulbasaur.getId());
+        assertEquals("bulbasaur", bulbasaur.getName());
+        assertEquals(BULBASAUR_SPRITE, bulbasaur.getSprite());
+        assertEquals(List.of(OVERGROW, CHLOROPHYLL), bulbasaur.getAbilities());
+    }
+
+    /**
+     * Test that names are looked up ignoring case and surrounding whitespace.
+     */
+    @Test
+    void testFindByNameIgnoresCaseAndWhitespace() {
+        assertEquals(1, snapshot.findByName("BULBASAUR").orElseThrow().getId());
+        assertEquals(2, snapshot.findByName("  IvySaur\t").orElseThrow().getId());
+    }
+
+    /**
+     * Test that a numeric name is looked up as an id, as the Pokémon API does.
+     */
+    @Test
+    void testFindByNameLooksUpNumbersById() {
+        assertEquals("ivysaur", snapshot.findByName("2").orElseThrow().getName());
+        assertEquals("pikachu", snapshot.findByName(" 25 ").orElseThrow().getName());
+        assertEquals(Optional.empty(), snapshot.findByName("151"));
+    }
+
+    /**
+     * Test that Pokémon are found by id.
+     */
+    @Test
+    void testFindById() {
+        assertEquals("bulbasaur", snapshot.findById(1).orElseThrow().getName());
+        assertEquals("pikachu", snapshot.findById(25).orElseThrow().getName());
+        assertFalse(snapshot.findById(3).isPresent());
+    }
+
+    /**
+     * Test that a missing sprite and a missing ability effect are read back as {@code null}.
+     */
+    @Test
+    void testMissingStringsAreReadBackAsNull() {
+        Pokemon pikachu = snapshot.findByName("pikachu").orElseThrow();
+
+        assertNull(pikachu.getSprite());
+        assertEquals("static", pikachu.getAbilities().get(0).getName());
+        assertNull(pikachu.getAbilities().get(0).getEffect());
+    }
+
+    /**
+     * Test that a name that is not in the snapshot is not found, whether it sorts before, between or after the others.
+     */
+    @Test
+    void testMissingNameIsNotFound() {
+        assertTrue(snapshot.findByName("abra").isEmpty());
+        assertTrue(snapshot.findByName("charmander").isEmpty());
+        assertTrue(snapshot.findByName("zubat").isEmpty());
+        assertTrue(snapshot.findByName("bulba").isEmpty());
+        assertTrue(snapshot.findByName("   ").isEmpty());
+    }
+
+    /**
+     * Test that the names are listed in id order, lower-cased.
+     */
+    @Test
+    void testNamesAreListedInIdOrder() {
+        assertEquals(3, snapshot.size());
+        assertEquals(List.of("bulbasaur", "ivysaur", "pikachu"), snapshot.names());
+    }
+
+    /**
+     * Test that a file that is not a snapshot is refused.
+     */
+    @Test
+    void testOpenRefusesOtherFiles() throws IOException {
+        Path file = Files.writeString(directory.resolve("pokemon.json"), "{\"name\":\"bulbasaur\"}");
+
+        assertThrows(IOException.class, () -> PokedexSnapshot.open(file));
+    }
+}
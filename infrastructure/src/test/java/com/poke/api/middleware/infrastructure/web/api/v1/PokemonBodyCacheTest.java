@@ -0,0 +1,199 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poke.api.middleware.application.AbilityOutput;
+import com.poke.api.middleware.application.PokemonOutput;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.cache.JsonContentHasher;
+import com.poke.api.middleware.infrastructure.cache.SoftTtlEntry;
+import com.poke.api.middleware.infrastructure.cache.TwoTierCacheManager;
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link PokemonBodyCache} class.
+ */
+class PokemonBodyCacheTest {
+
+    private TwoTierCacheManager cacheManager;
+    private PokemonBodyCache bodyCache;
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        RedisCache redisCache = mock(RedisCache.class);
+        when(redisCache.getName()).thenReturn(CachedPokemonSearch.POKEMON_CACHE);
+        when(redisCacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE)).thenReturn(redisCache);
+        cacheManager = new TwoTierCacheManager(
+                redisCacheManager,
+                mock(RedisConnectionFactory.class),
+                mock(StringRedisTemplate.class),
+                List.of(CachedPokemonSearch.POKEMON_CACHE),
+                100,
+                Duration.ofMinutes(10),
+                UnaryOperator.identity()
+        );
+        cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE);
+
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.getCompression().setEnabled(true);
+        serverProperties.getCompression().setMinResponseSize(DataSize.ofBytes(1));
+        bodyCache = new PokemonBodyCache(
+                new ObjectMapper(),
+                serverProperties,
+                new CachingProperties(
+                        CachingProperties.Serializer.COMPACT,
+                        128,
+                        new CachingProperties.Near(List.of(CachedPokemonSearch.POKEMON_CACHE), 100, Duration.ofMinutes(10)),
+                        null,
+                        null,
+                        null,
+                        null
+                ),
+                cacheManager,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    /**
+     * Test that the compressed body carries its own entity tag.
+     */
+    @Test
+    void testCompressedBodyHasItsOwnETag() {
+        PokemonBody body = bodyCache.put("bulbasaur", bulbasaur());
+
+        assertNotNull(body.gzip());
+        assertNotNull(body.gzipEtag());
+        assertNotEquals(body.etag(), body.gzipEtag());
+    }
+
+    /**
+     * Test that a body is dropped when another node announces that its {@code pokemonCache} entry changed.
+     */
+    @Test
+    void testInvalidationFromAnotherNodeDropsBody() {
+        bodyCache.put("bulbasaur", bulbasaur());
+        bodyCache.put("ivysaur", bulbasaur());
+
+        cacheManager.onMessage(invalidation("other-node|evict|pokemonCache|bulbasaur"), null);
+
+        assertNull(bodyCache.getIfPresent("bulbasaur"));
+        assertNotNull(bodyCache.getIfPresent("ivysaur"));
+    }
+
+    /**
+     * Test that every body is dropped when another node announces that the {@code pokemonCache} was cleared.
+     */
+    @Test
+    void testClearFromAnotherNodeDropsEveryBody() {
+        bodyCache.put("bulbasaur", bulbasaur());
+
+        cacheManager.onMessage(invalidation("other-node|clear|pokemonCache"), null);
+
+        assertNull(bodyCache.getIfPresent("bulbasaur"));
+    }
+
+    /**
+     * Test that a body is shared by every spelling of a name, and dropped by the invalidation of its normalized name.
+     */
+    @Test
+    void testBodiesAreKeyedByNormalizedName() {
+        PokemonBody body = bodyCache.put(" Bulbasaur ", bulbasaur());
+
+        assertSame(body, bodyCache.getIfPresent("BULBASAUR"));
+
+        cacheManager.onMessage(invalidation("other-node|evict|pokemonCache|bulbasaur"), null);
+
+        assertNull(bodyCache.getIfPresent(" Bulbasaur "));
+    }
+
+    /**
+     * Test that storing the result a body was rendered from on this node keeps the body,
+     * so a cold name is rendered once.
+     */
+    @Test
+    void testOwnWriteOfRenderedResultKeepsBody() {
+        PokemonBody body = bodyCache.put("bulbasaur", bulbasaur());
+
+        pokemonCache().put("bulbasaur", entry(bulbasaur()));
+
+        assertSame(body, bodyCache.getIfPresent("bulbasaur"));
+    }
+
+    /**
+     * Test that writing a different result on this node drops the body.
+     */
+    @Test
+    void testOwnWriteOfChangedResultDropsBody() {
+        bodyCache.put("bulbasaur", bulbasaur());
+
+        pokemonCache().put("bulbasaur", entry(withoutAbilities()));
+
+        assertNull(bodyCache.getIfPresent("bulbasaur"));
+    }
+
+    /**
+     * Test that a body rendered from a result that a newer entry already replaced is not kept.
+     */
+    @Test
+    void testBodyOfReplacedResultIsNotKept() {
+        pokemonCache().put("bulbasaur", entry(withoutAbilities()));
+
+        bodyCache.put("bulbasaur", bulbasaur());
+
+        assertNull(bodyCache.getIfPresent("bulbasaur"));
+    }
+
+    private Cache pokemonCache() {
+        return cacheManager.getCache(CachedPokemonSearch.POKEMON_CACHE);
+    }
+
+    private static SoftTtlEntry entry(PokemonOutput output) {
+        return new SoftTtlEntry(output, 0, 0, new JsonContentHasher(new ObjectMapper()).apply(output));
+    }
+
+    private static PokemonOutput withoutAbilities() {
+        return new PokemonOutput(
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                List.of()
+        );
+    }
+
+    private static DefaultMessage invalidation(String body) {
+        return new DefaultMessage(
+                TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static PokemonOutput bulbasaur() {
+        return new PokemonOutput(
+                "bulbasaur",
+                "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                List.of(new AbilityOutput(65, "overgrow", "Powers up Grass-type moves when the Pokémon's HP is low."))
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.configuration.BatchProperties;
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import com.poke.api.middleware.infrastructure.configuration.RestResponseEntityExceptionHandler;
+import com.poke.api.middleware.infrastructure.configuration.SearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the batch search of the {@link PokemonController} class.
+ */
+class PokemonControllerBatchTest {
+
+    private CachedPokemonSearch pokemonSearch;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        pokemonSearch = mock(CachedPokemonSearch.class);
+        PokemonController controller = new PokemonController(
+                pokemonSearch,
+                mock(PokemonBodyCache.class),
+                mock(NameIndex.class),
+                new BatchProperties(2, 1),
+                new CachingProperties(
+                        CachingProperties.Serializer.COMPACT,
+                        128,
+                        null,
+                        null,
+                        new CachingProperties.Http(Duration.ofHours(1)),
+                        null,
+                        null
+                ),
+                new SearchProperties(false, 2000, 10, 50, 0.01, Duration.ofHours(6)),
+                new SimpleMeterRegistry()
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                                 .setControllerAdvice(new RestResponseEntityExceptionHandler())
+                                 .build();
+    }
+
+    /**
+     * Test that a batch of more names than allowed is answered with 400 Bad Request, without any search.
+     */
+    @Test
+    void testTooManyNamesIsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/pokemon/batch").param("names", "bulbasaur,ivysaur,venusaur"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.status").value(400))
+               .andExpect(jsonPath("$.message").value("At most 2 names can be searched at once"));
+
+        verify(pokemonSearch, never()).searchAll(any());
+    }
+}
@@ -0,0 +1,104 @@
+package com.poke.api.middleware.infrastructure.web.api.v1;
+
+import com.poke.api.middleware.application.NameIndex;
+import com.poke.api.middleware.infrastructure.cache.CachedPokemonSearch;
+import com.poke.api.middleware.infrastructure.configuration.BatchProperties;
+import com.poke.api.middleware.infrastructure.configuration.CachingProperties;
+import com.poke.api.middleware.infrastructure.configuration.RestResponseEntityExceptionHandler;
+import com.poke.api.middleware.infrastructure.configuration.SearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the single search of the {@link PokemonController} class.
+ */
+class PokemonControllerSearchTest {
+
+    private static final String HASH = "0123456789abcdef0123456789abcdef";
+
+    private CachedPokemonSearch pokemonSearch;
+    private PokemonBodyCache bodyCache;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        pokemonSearch = mock(CachedPokemonSearch.class);
+        bodyCache = mock(PokemonBodyCache.class);
+        PokemonController controller = new PokemonController(
+                pokemonSearch,
+                bodyCache,
+                mock(NameIndex.class),
+                new BatchProperties(2, 1),
+                new CachingProperties(
+                        CachingProperties.Serializer.COMPACT,
+                        128,
+                        null,
+                        null,
+                        new CachingProperties.Http(Duration.ofHours(1)),
+                        null,
+                        null
+                ),
+                new SearchProperties(false, 2000, 10, 50, 0.01, Duration.ofHours(6)),
+                new SimpleMeterRegistry()
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                                 .setControllerAdvice(new RestResponseEntityExceptionHandler())
+                                 .build();
+    }
+
+    /**
+     * Test that a conditional request matching the content hash stored with the cached result is answered with
+     * 304 Not Modified, without searching or rendering the Pokémon.
+     */
+    @Test
+    void testUnchangedResultIsNotModifiedWithoutRendering() throws Exception {
+        when(pokemonSearch.contentHash("bulbasaur")).thenReturn(HASH);
+
+        MvcResult result = mockMvc.perform(get("/v1/pokemon")
+                                                   .param("name", "bulbasaur")
+                                                   .header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""))
+                                  .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""));
+        verify(pokemonSearch, never()).searchAsync(any());
+        verify(bodyCache, never()).put(any(), any());
+    }
+
+    /**
+     * Test that the gzip ETag stored by a client is matched when the client accepts gzip.
+     */
+    @Test
+    void testGzipETagMatchesWhenGzipIsAccepted() throws Exception {
+        when(pokemonSearch.contentHash("bulbasaur")).thenReturn(HASH);
+
+        MvcResult result = mockMvc.perform(get("/v1/pokemon")
+                                                   .param("name", "bulbasaur")
+                                                   .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                                                   .header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "-gzip\""))
+                                  .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "-gzip\""));
+        verify(pokemonSearch, never()).searchAsync(any());
+    }
+}
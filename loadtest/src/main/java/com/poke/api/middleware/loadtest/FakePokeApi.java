@@ -0,0 +1,309 @@
+package com.poke.api.middleware.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * A stand-in for the Pokémon API, serving a synthetic Pokédex from memory with injected latency and errors.
+ * <p>
+ * It answers the endpoints the application calls, {@code /pokemon?limit=}, {@code /pokemon/{name}} and
+ * {@code /ability/{id}/}, with bodies shaped like the real ones, including a full list of moves the application
+ * skips. Every Pokémon and ability lookup waits for {@code latency} plus a random {@code jitter}, then fails with
+ * {@code 500} at the configured error rate; listing the Pokémon is never slowed down nor failed, so the application
+ * starts the same way in every run. Every call is counted, to show how much of the traffic reaches the API.
+ */
+public class FakePokeApi implements AutoCloseable {
+    private static final String BASE_PATH = "/api/v2";
+    private static final int ABILITIES = 100;
+    private static final int MOVES = 80;
+
+    private final List<String> names;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+    private final LongAdder pokemonCalls = new LongAdder();
+    private final LongAdder abilityCalls = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fake-poke-api");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HttpServer server;
+
+    /**
+     * Starts a new {@link FakePokeApi} on a free local port.
+     *
+     * @param pokemon   the number of Pokémon in the Pokédex
+     * @param latency   the shortest time a lookup takes
+     * @param jitter    the longest random time added to {@code latency}
+     * @param errorRate the fraction of lookups answered with {@code 500}, between {@code 0} and {@code 1}
+     * @throws IOException if the server cannot be started
+     */
+    public FakePokeApi(
+            int pokemon,
+            Duration latency,
+            Duration jitter,
+            double errorRate
+    ) throws IOException {
+        this.names = IntStream.rangeClosed(1, pokemon)
+                              .mapToObj(FakePokeApi::name)
+                              .toList();
+        for (int i = 0; i < names.size(); i++) {
+            ids.put(names.get(i), i + 1);
+        }
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.errorRate = errorRate;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH + "/pokemon", this::handlePokemon);
+        server.createContext(BASE_PATH + "/ability", this::handleAbility);
+        server.start();
+    }
+
+    /**
+     * Gets the base URL of the API, to be set as {@code poke-api.upstream.base-url}.
+     *
+     * @return the base URL, without a trailing slash
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    /**
+     * Gets the names of every Pokémon, in Pokédex order.
+     *
+     * @return the names of the Pokémon
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Gets the number of Pokémon and ability lookups received so far.
+     *
+     * @return the number of lookups
+     */
+    public long lookups() {
+        return pokemonCalls.sum() + abilityCalls.sum();
+    }
+
+    /**
+     * Gets the number of Pokémon lookups received so far.
+     *
+     * @return the number of Pokémon lookups
+     */
+    public long pokemonLookups() {
+        return pokemonCalls.sum();
+    }
+
+    /**
+     * Gets the number of ability lookups received so far.
+     *
+     * @return the number of ability lookups
+     */
+    public long abilityLookups() {
+        return abilityCalls.sum();
+    }
+
+    /**
+     * Gets the number of lookups answered with an injected {@code 500}.
+     *
+     * @return the number of injected errors
+     */
+    public long injectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    /**
+     * Stops the server, abandoning the calls in progress.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handlePokemon(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            String path = trimSlashes(uri.getPath().substring(BASE_PATH.length() + "/pokemon".length()));
+            if (path.isEmpty()) {
+                send(exchange, 200, list(limit(uri.getQuery())));
+                return;
+            }
+
+            pokemonCalls.increment();
+            if (delayOrFail(exchange)) {
+                return;
+            }
+            Integer id = ids.get(path);
+            if (id == null) {
+                send(exchange, 404, "Not Found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, bodies.computeIfAbsent(path, name -> pokemon(id, name)));
+        }
+    }
+
+    private void handleAbility(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = trimSlashes(exchange.getRequestURI().getPath().substring(BASE_PATH.length() + "/ability".length()));
+
+            abilityCalls.increment();
+            if (delayOrFail(exchange)) {
+                return;
+            }
+            int id;
+            try {
+                id = Integer.parseInt(path);
+            } catch (NumberFormatException e) {
+                id = -1;
+            }
+            if (id < 1 || id > ABILITIES * 3) {
+                send(exchange, 404, "Not Found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            int abilityId = id;
+            send(exchange, 200, bodies.computeIfAbsent("ability/" + id, key -> ability(abilityId)));
+        }
+    }
+
+    /**
+     * Waits for the injected latency, then answers with an injected error if this lookup is picked to fail.
+     *
+     * @return {@code true} if the lookup was answered with an error
+     */
+    private boolean delayOrFail(HttpExchange exchange) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyNanos + (jitterNanos > 0 ? random.nextLong(jitterNanos + 1) : 0);
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            injectedErrors.increment();
+            send(exchange, 500, "Internal Server Error".getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+        return false;
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", status == 200 ? "application/json" : "text/plain");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream stream = exchange.getResponseBody()) {
+            stream.write(body);
+        }
+    }
+
+    private byte[] list(int limit) {
+        StringBuilder json = new StringBuilder("{\"count\":").append(names.size())
+                                                           .append(",\"next\":null,\"previous\":null,\"results\":[");
+        for (int i = 0; i < Math.min(limit, names.size()); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"").append(names.get(i))
+                .append("\",\"url\":\"").append(baseUrl()).append("/pokemon/").append(i + 1).append("/\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders a Pokémon with two or three of the {@code 3 × ABILITIES} abilities, and as many moves as a real one.
+     */
+    private byte[] pokemon(int id, String name) {
+        int firstAbility = id % ABILITIES + 1;
+        int abilityCount = id % 3 == 0 ? 3 : 2;
+        StringBuilder json = new StringBuilder("{\"id\":").append(id)
+                                                         .append(",\"name\":\"").append(name)
+                                                         .append("\",\"base_experience\":64,\"height\":7,\"weight\":69,\"abilities\":[");
+        for (int i = 0; i < abilityCount; i++) {
+            int abilityId = firstAbility + i * ABILITIES;
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"ability\":{\"name\":\"ability-").append(abilityId)
+                .append("\",\"url\":\"").append(baseUrl()).append("/ability/").append(abilityId)
+                .append("/\"},\"is_hidden\":").append(i == abilityCount - 1)
+                .append(",\"slot\":").append(i + 1).append('}');
+        }
+        json.append("],\"moves\":[");
+        for (int i = 1; i <= MOVES; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"move\":{\"name\":\"move-").append(i)
+                .append("\",\"url\":\"https://pokeapi.co/api/v2/move/").append(i)
+                .append("/\"},\"version_group_details\":[{\"level_learned_at\":").append(i % 50)
+                .append(",\"move_learn_method\":{\"name\":\"level-up\",\"url\":\"https://pokeapi.co/api/v2/move-learn-method/1/\"}")
+                .append(",\"version_group\":{\"name\":\"red-blue\",\"url\":\"https://pokeapi.co/api/v2/version-group/1/\"}}]}");
+        }
+        json.append("],\"sprites\":{\"front_default\":\"https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/")
+            .append(id).append(".png\",\"back_default\":null,\"front_shiny\":null}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ability(int id) {
+        String effect = "When this Pokémon has 1/3 or less of its HP remaining, its moves of type " + id
+                        + " inflict 1.5× as much regular damage.";
+        return ("{\"id\":" + id + ",\"name\":\"ability-" + id + "\",\"is_main_series\":true,\"effect_entries\":["
+                + "{\"effect\":\"" + effect + "\",\"short_effect\":\"Strengthens moves of type " + id + ".\","
+                + "\"language\":{\"name\":\"en\",\"url\":\"https://pokeapi.co/api/v2/language/9/\"}}],"
+                + "\"generation\":{\"name\":\"generation-iii\",\"url\":\"https://pokeapi.co/api/v2/generation/3/\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int limit(String query) {
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("limit=")) {
+                    return Integer.parseInt(parameter.substring("limit=".length()));
+                }
+            }
+        }
+        return 20;
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+
+    private static String name(int id) {
+        return "pokemon-" + id;
+    }
+}
@@ -0,0 +1,161 @@
+package com.poke.api.middleware.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sends searches to the application at a fixed rate and records their latencies.
+ * <p>
+ * Searches are sent on schedule whether or not the previous ones were answered, as independent users would send them,
+ * and each latency is measured from the time its search was due rather than the time it was sent, so a stalled
+ * application is charged for the searches it delayed (no coordinated omission). A search that would exceed
+ * the in-flight cap waits for an answer to free a slot and is counted as delayed, its latency still measured
+ * from the time it was due, so the time spent waiting is charged too. Latencies are also split into one-second intervals,
+ * next to the number of API lookups made in each, to show how the application behaves over time.
+ */
+public class LoadGenerator {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+    private final URI searchUri;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final LongSupplier upstreamLookups;
+
+    /**
+     * Constructs a new {@link LoadGenerator}.
+     *
+     * @param client          the {@link HttpClient} the searches are sent with
+     * @param searchUri       the URI of the search endpoint, to which the Pokémon name is appended
+     * @param maxInFlight     the largest number of searches awaiting an answer; further searches wait for a free slot
+     * @param upstreamLookups the number of lookups the API received so far, reported in each interval
+     */
+    public LoadGenerator(
+            HttpClient client,
+            URI searchUri,
+            int maxInFlight,
+            LongSupplier upstreamLookups
+    ) {
+        this.client = client;
+        this.searchUri = searchUri;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.upstreamLookups = upstreamLookups;
+    }
+
+    /**
+     * Sends searches for a while, then waits for the last answers.
+     *
+     * @param phase    the name of the run, used in the report
+     * @param rate     the number of searches sent per second
+     * @param duration how long searches are sent
+     * @param names    picks the name of each search
+     * @return the {@link LoadResult} of the run
+     */
+    public LoadResult run(
+            String phase,
+            int rate,
+            Duration duration,
+            Supplier<String> names
+    ) {
+        Recorder recorder = new Recorder(3);
+        Histogram total = new Histogram(3);
+        List<LoadResult.Interval> intervals = new ArrayList<>();
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        LongAdder delayed = new LongAdder();
+        long[] lastLookups = {upstreamLookups.getAsLong()};
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        Runnable sample = () -> {
+            synchronized (intervals) {
+                Histogram interval = recorder.getIntervalHistogram();
+                long lookups = upstreamLookups.getAsLong();
+                intervals.add(LoadResult.Interval.of(intervals.size() + 1, interval, lookups - lastLookups[0]));
+                lastLookups[0] = lookups;
+                total.add(interval);
+            }
+        };
+        sampler.scheduleAtFixedRate(sample, 1, 1, TimeUnit.SECONDS);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                delayed.increment();
+                inFlight.acquireUninterruptibly();
+            }
+            send(names.get(), due, recorder, outcomes);
+        }
+
+        try {
+            if (inFlight.tryAcquire(maxInFlight, REQUEST_TIMEOUT.toNanos() * 2, TimeUnit.NANOSECONDS)) {
+                inFlight.release(maxInFlight);
+            }
+            sampler.shutdown();
+            sampler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sample.run();
+
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return new LoadResult(phase, rate, duration, total, List.copyOf(intervals), counts, delayed.sum());
+    }
+
+    private void send(
+            String name,
+            long due,
+            Recorder recorder,
+            Map<String, LongAdder> outcomes
+    ) {
+        HttpRequest request = HttpRequest.newBuilder(searchUri.resolve(name))
+                                         .timeout(REQUEST_TIMEOUT)
+                                         .GET()
+                                         .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+              .whenComplete((response, failure) -> {
+                  recorder.recordValue(System.nanoTime() - due);
+                  outcomes.computeIfAbsent(outcome(response, failure), key -> new LongAdder()).increment();
+                  inFlight.release();
+              });
+    }
+
+    private static String outcome(HttpResponse<?> response, Throwable failure) {
+        if (failure == null) {
+            return String.valueOf(response.statusCode());
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR";
+    }
+}
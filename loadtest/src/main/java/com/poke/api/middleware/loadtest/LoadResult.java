@@ -0,0 +1,125 @@
+package com.poke.api.middleware.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latencies and outcomes of the searches sent during a load test run.
+ *
+ * @param phase     the name of the run
+ * @param rate      the number of searches per second the run was meant to send
+ * @param duration  how long searches were sent
+ * @param latencies the latencies of every answered search, in nanoseconds
+ * @param intervals the searches answered in each second of the run
+ * @param outcomes  the number of searches by response status, {@code TIMEOUT} or {@code IO_ERROR}
+ * @param delayed   the number of searches sent late because too many were awaiting an answer; their latencies
+ *                  still count from the time they were due
+ */
+public record LoadResult(
+        String phase,
+        int rate,
+        Duration duration,
+        Histogram latencies,
+        List<Interval> intervals,
+        Map<String, Long> outcomes,
+        long delayed
+) {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Prints the throughput, the outcomes, the latency percentiles and the timeline of the run.
+     *
+     * @param out the {@link PrintStream} the report is printed to
+     */
+    public void print(PrintStream out) {
+        out.printf("%n=== %s: %d searches/s for %ds ===%n", phase, rate, duration.toSeconds());
+        out.printf("answered   %d (%.1f/s), delayed %d%n",
+                   latencies.getTotalCount(), latencies.getTotalCount() / (double) Math.max(1, duration.toSeconds()), delayed);
+        out.printf("outcomes   %s%n", outcomes);
+        out.printf("latency ms p50 %.2f | p90 %.2f | p99 %.2f | p99.9 %.2f | max %.2f%n",
+                   millis(latencies, 50), millis(latencies, 90), millis(latencies, 99), millis(latencies, 99.9),
+                   latencies.getMaxValue() / NANOS_PER_MILLI);
+        out.printf("%n%6s %8s %10s %10s %10s %12s%n", "second", "answered", "p50 ms", "p99 ms", "max ms", "API lookups");
+        for (Interval interval : intervals) {
+            out.printf("%6d %8d %10.2f %10.2f %10.2f %12d%n",
+                       interval.second(), interval.answered(), interval.p50Millis(), interval.p99Millis(),
+                       interval.maxMillis(), interval.upstreamLookups());
+        }
+    }
+
+    /**
+     * Writes the full percentile distribution of the run, readable by the HdrHistogram plotter,
+     * and its timeline as CSV, to {@code <phase>.hgrm} and {@code <phase>-timeline.csv}.
+     *
+     * @param directory the directory the files are written to, created when missing
+     * @throws IOException if the files cannot be written
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(phase + ".hgrm")), false, StandardCharsets.UTF_8)) {
+            latencies.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+        StringBuilder csv = new StringBuilder("second,answered,p50_ms,p99_ms,max_ms,api_lookups\n");
+        for (Interval interval : intervals) {
+            csv.append(interval.second()).append(',')
+               .append(interval.answered()).append(',')
+               .append(interval.p50Millis()).append(',')
+               .append(interval.p99Millis()).append(',')
+               .append(interval.maxMillis()).append(',')
+               .append(interval.upstreamLookups()).append('\n');
+        }
+        Files.writeString(directory.resolve(phase + "-timeline.csv"), csv);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * The searches answered in one second of a run.
+     *
+     * @param second          the second of the run, starting at {@code 1}
+     * @param answered        the number of searches answered
+     * @param p50Millis       the median latency, in milliseconds
+     * @param p99Millis       the 99th percentile latency, in milliseconds
+     * @param maxMillis       the highest latency, in milliseconds
+     * @param upstreamLookups the number of lookups the API received
+     */
+    public record Interval(
+            int second,
+            long answered,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis,
+            long upstreamLookups
+    ) {
+
+        /**
+         * Summarizes the latencies recorded during one second.
+         *
+         * @param second          the second of the run
+         * @param latencies       the latencies recorded, in nanoseconds
+         * @param upstreamLookups the number of lookups the API received
+         * @return the {@link Interval}
+         */
+        static Interval of(int second, Histogram latencies, long upstreamLookups) {
+            return new Interval(
+                    second,
+                    latencies.getTotalCount(),
+                    millis(latencies, 50),
+                    millis(latencies, 99),
+                    latencies.getMaxValue() / NANOS_PER_MILLI,
+                    upstreamLookups
+            );
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.poke.api.middleware.loadtest;
+
+import com.poke.api.middleware.infrastructure.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the application against a {@link FakePokeApi} and an embedded Redis, sends it one of the {@link Workload}s,
+ * and reports the latency percentiles of the searches.
+ * <p>
+ * Every run starts from an empty Redis and a freshly started application, so runs of the same settings are comparable
+ * between commits. Usage: {@code ./gradlew :loadtest:loadTest -Pworkload=zipf -Prate=200 -Pduration=60s};
+ * see {@link LoadTestOptions} for every setting.
+ */
+public final class LoadTest {
+    private static final Logger LOG = LoggerFactory.getLogger(LoadTest.class);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final int IN_FLIGHT_SECONDS = 10;
+    private static final double HOT_FRACTION = 0.1;
+
+    private LoadTest() {
+    }
+
+    /**
+     * Runs a load test.
+     *
+     * @param args the {@code --name=value} settings of the run
+     * @throws Exception if the run cannot be set up or its report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        try (FakePokeApi api = new FakePokeApi(options.pokemon(), options.latency(), options.jitter(), options.errorRate());
+             ConfigurableApplicationContext application = start(options, api, redisPort)) {
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                                          .version(HttpClient.Version.HTTP_1_1)
+                                          .connectTimeout(Duration.ofSeconds(2))
+                                          .build();
+            awaitReady(client, URI.create("http://127.0.0.1:" + port + "/api/actuator/health/readiness"));
+            LOG.info("[step:load-test-ready] [workload:{}] Application listening on port {}, API at {}, Redis on port {}",
+                     options.workload().id(), port, api.baseUrl(), redisPort);
+
+            LoadGenerator generator = new LoadGenerator(
+                    client,
+                    URI.create("http://127.0.0.1:" + port + "/api/v1/pokemon/"),
+                    Math.max(100, options.rate() * IN_FLIGHT_SECONDS),
+                    api::lookups
+            );
+            LoadResult result = run(options, api, generator);
+
+            result.print(System.out);
+            System.out.printf("%nAPI: %d Pokémon lookups, %d ability lookups, %d injected errors%n",
+                              api.pokemonLookups(), api.abilityLookups(), api.injectedErrors());
+            result.write(options.reportDir());
+            LOG.info("[step:load-test-finished] [workload:{}] Report written to {}", options.workload().id(), options.reportDir());
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static LoadResult run(
+            LoadTestOptions options,
+            FakePokeApi api,
+            LoadGenerator generator
+    ) {
+        Supplier<String> zipf = zipfNames(api.names(), options.zipfExponent());
+        return switch (options.workload()) {
+            case ZIPF -> {
+                if (!options.warmUp().isZero()) {
+                    LoadResult warmUp = generator.run("warm-up", options.rate(), options.warmUp(), zipf);
+                    LOG.info("[step:load-test-warmed-up] Sent {} searches, outcomes {}",
+                             warmUp.latencies().getTotalCount(), warmUp.outcomes());
+                }
+                yield generator.run("zipf", options.rate(), options.duration(), zipf);
+            }
+            case COLD_START -> generator.run("cold-start", options.rate(), options.duration(), zipf);
+            case TTL_STORM -> {
+                // Cache the most searched Pokémon within two seconds, so their entries all expire together.
+                List<String> hot = api.names().subList(0, Math.max(1, (int) (api.names().size() * HOT_FRACTION)));
+                AtomicInteger next = new AtomicInteger();
+                LoadResult prime = generator.run("prime", Math.max(1, hot.size() / 2), Duration.ofSeconds(2),
+                                                 () -> hot.get(next.getAndIncrement() % hot.size()));
+                LOG.info("[step:load-test-primed] Cached {} Pokémon expiring in {}, outcomes {}",
+                         hot.size(), options.ttl(), prime.outcomes());
+                yield generator.run("ttl-storm", options.rate(), options.duration(), zipf);
+            }
+        };
+    }
+
+    private static ConfigurableApplicationContext start(
+            LoadTestOptions options,
+            FakePokeApi api,
+            int redisPort
+    ) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("redis.host", "127.0.0.1");
+        properties.put("redis.port", String.valueOf(redisPort));
+        properties.put("redis.password", "");
+        properties.put("poke-api.upstream.base-url", api.baseUrl());
+        properties.put("poke-api.upstream.client", options.client());
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.poke.api.middleware.loadtest", "INFO");
+        if (options.workload() == Workload.TTL_STORM) {
+            properties.put("poke-api.cache.soft-ttl.ttl", options.ttl().toMillis() + "ms");
+            properties.put("poke-api.cache.near.expire-after-write", options.ttl().toMillis() + "ms");
+        }
+        properties.putAll(options.applicationProperties());
+
+        // Command-line arguments take precedence over application.yml.
+        String[] args = properties.entrySet()
+                                  .stream()
+                                  .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                                  .toArray(String[]::new);
+        return new SpringApplicationBuilder(Main.class).run(args);
+    }
+
+    private static void awaitReady(HttpClient client, URI readiness) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(readiness).GET().build();
+        while (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The application was not ready within " + STARTUP_TIMEOUT);
+            }
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+    }
+
+    private static Supplier<String> zipfNames(List<String> names, double exponent) {
+        ZipfDistribution distribution = new ZipfDistribution(names.size(), exponent);
+        SplittableRandom random = new SplittableRandom(42);
+        return () -> names.get(distribution.next(random));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.poke.api.middleware.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The settings of a load test run, read from {@code --name=value} command-line arguments.
+ * Arguments starting with {@code --app.} are passed to the application under test as properties.
+ *
+ * @param workload              the traffic pattern of the run
+ * @param rate                  the number of searches sent per second, whatever the response times
+ * @param duration              how long the measured traffic is sent
+ * @param warmUp                how long traffic is sent before it is measured, for the {@code zipf} workload
+ * @param pokemon               the number of Pokémon known by the fake API
+ * @param zipfExponent          the skew of the name popularity; {@code 0} searches every Pokémon equally often
+ * @param latency               the shortest time the fake API takes to answer
+ * @param jitter                the longest random time added to {@code latency}
+ * @param errorRate             the fraction of Pokémon and ability lookups the fake API answers with {@code 500}
+ * @param ttl                   how long cached Pokémon stay fresh, for the {@code ttl-storm} workload
+ * @param client                the HTTP client the application calls the API with: blocking or reactive
+ * @param reportDir             the directory the percentile distributions and timelines are written to
+ * @param applicationProperties the properties overriding the configuration of the application under test
+ */
+public record LoadTestOptions(
+        Workload workload,
+        int rate,
+        Duration duration,
+        Duration warmUp,
+        int pokemon,
+        double zipfExponent,
+        Duration latency,
+        Duration jitter,
+        double errorRate,
+        Duration ttl,
+        String client,
+        Path reportDir,
+        Map<String, String> applicationProperties
+) {
+    private static final Set<String> ARGUMENTS = Set.of(
+            "workload", "rate", "duration", "warm-up", "pokemon", "zipf-exponent",
+            "latency", "jitter", "error-rate", "ttl", "client", "report-dir"
+    );
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public LoadTestOptions {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive, was " + rate);
+        }
+        if (pokemon <= 0) {
+            throw new IllegalArgumentException("pokemon must be positive, was " + pokemon);
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("error-rate must be between 0 and 1, was " + errorRate);
+        }
+        if (workload == Workload.TTL_STORM && duration.compareTo(ttl) <= 0) {
+            throw new IllegalArgumentException("duration must be longer than ttl for the ttl-storm workload");
+        }
+    }
+
+    /**
+     * Reads the settings from command-line arguments, using defaults for the missing ones.
+     *
+     * @param args the {@code --name=value} arguments
+     * @return the {@link LoadTestOptions} of the run
+     * @throws IllegalArgumentException if an argument is malformed or unknown
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, String> applicationProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, was " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            if (name.startsWith("app.")) {
+                applicationProperties.put(name.substring(4), value);
+            } else if (ARGUMENTS.contains(name)) {
+                values.put(name, value);
+            } else {
+                throw new IllegalArgumentException("Unknown argument --" + name);
+            }
+        }
+
+        return new LoadTestOptions(
+                Workload.from(values.getOrDefault("workload", "zipf")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(values.getOrDefault("warm-up", "10s")),
+                Integer.parseInt(values.getOrDefault("pokemon", "1000")),
+                Double.parseDouble(values.getOrDefault("zipf-exponent", "1.0")),
+                DurationStyle.detectAndParse(values.getOrDefault("latency", "50ms")),
+                DurationStyle.detectAndParse(values.getOrDefault("jitter", "50ms")),
+                Double.parseDouble(values.getOrDefault("error-rate", "0.0")),
+                DurationStyle.detectAndParse(values.getOrDefault("ttl", "20s")),
+                values.getOrDefault("client", "blocking"),
+                Path.of(values.getOrDefault("report-dir", "reports")),
+                Map.copyOf(applicationProperties)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.poke.api.middleware.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The traffic patterns the application can be measured under.
+ */
+public enum Workload {
+    /**
+     * Steady traffic over warm caches, where a few Pokémon are searched far more often than the others,
+     * following a Zipfian distribution.
+     */
+    ZIPF("zipf"),
+
+    /**
+     * The same traffic, sent to a freshly started application with an empty Redis,
+     * so the first searches of every Pokémon reach the API.
+     */
+    COLD_START("cold-start"),
+
+    /**
+     * The same traffic, after every Pokémon was cached within a few seconds with a short TTL,
+     * so their entries expire together in the middle of the run.
+     */
+    TTL_STORM("ttl-storm");
+
+    private final String id;
+
+    Workload(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the identifier of the workload, as passed on the command line.
+     *
+     * @return the identifier of the workload
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Finds a workload by its identifier.
+     *
+     * @param id the identifier of the workload
+     * @return the matching {@link Workload}
+     * @throws IllegalArgumentException if no workload has that identifier
+     */
+    public static Workload from(String id) {
+        return Arrays.stream(values())
+                     .filter(workload -> workload.id.equals(id))
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalArgumentException("Unknown workload " + id + ", expected one of "
+                                                                     + Arrays.stream(values()).map(Workload::id).toList()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.poke.api.middleware.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ranks following a Zipfian distribution, where the rank {@code k} is drawn
+ * in proportion to {@code 1 / k^exponent}: a few ranks take most of the draws, as a few Pokémon take most searches.
+ * The cumulative probabilities are computed once, and each draw is a binary search over them.
+ */
+final class ZipfDistribution {
+    private final double[] cumulative;
+
+    /**
+     * Constructs a new {@link ZipfDistribution}.
+     *
+     * @param size     the number of ranks
+     * @param exponent the skew of the distribution; {@code 0} draws every rank equally often
+     */
+    ZipfDistribution(int size, double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Draws a rank.
+     *
+     * @param random the source of randomness
+     * @return a rank between {@code 0}, the most frequent, and {@code size - 1}
+     */
+    int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}